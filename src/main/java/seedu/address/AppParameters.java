@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageBackend;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -18,6 +19,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private StorageBackend migrationTarget;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +29,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the storage backend to move the address book to before starting, or null to keep the current one.
+     */
+    public StorageBackend getMigrationTarget() {
+        return migrationTarget;
+    }
+
+    public void setMigrationTarget(StorageBackend migrationTarget) {
+        this.migrationTarget = migrationTarget;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,10 +53,23 @@ public class AppParameters {
             configPathParameter = null;
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        appParameters.setMigrationTarget(parseStorageBackend(namedParameters.get("migrate-storage")));
 
         return appParameters;
     }
 
+    private static StorageBackend parseStorageBackend(String backendParameter) {
+        if (backendParameter == null) {
+            return null;
+        }
+        try {
+            return StorageBackend.valueOf(backendParameter.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid storage backend " + backendParameter + ". Not migrating the data file.");
+            return null;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +82,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && migrationTarget == otherAppParameters.migrationTarget;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, migrationTarget);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("migrationTarget", migrationTarget)
                 .toString();
     }
 }
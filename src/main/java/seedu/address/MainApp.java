@@ -2,13 +2,17 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MidnightScheduler;
+import seedu.address.commons.core.StorageBackend;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
@@ -21,9 +25,10 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.history.ChangeLog;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AddressBookStorageBackends;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -45,6 +50,8 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected Clock clock;
+    protected MidnightScheduler midnightScheduler;
 
     @Override
     public void init() throws Exception {
@@ -57,9 +64,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getHreersDatafilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        if (appParameters.getMigrationTarget() != null) {
+            migrateAddressBookStorage(config, appParameters, userPrefs);
+        }
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, config.getSaveGroupCommitWindowMillis());
 
+        clock = Clock.systemDefaultZone();
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
@@ -67,6 +78,58 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in {@code userPrefs}, stored the way the
+     * storage backend of {@code config} does.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path dataFilePath = userPrefs.getHreersDatafilePath();
+        logger.info("Storing " + dataFilePath + " with the " + config.getAddressBookStorageBackend() + " backend");
+        return AddressBookStorageBackends.create(config.getAddressBookStorageBackend(), dataFilePath, config);
+    }
+
+    /**
+     * Moves the data file in {@code userPrefs} to the storage backend requested in {@code appParameters}.
+     * The new backend is saved to the config file before the data file is moved, so that later runs never read the
+     * moved data file with the old backend. The data file is not moved if the config file cannot be saved.
+     *
+     * @throws IOException if the migration failed and the config file could not be restored to the old backend.
+     */
+    private void migrateAddressBookStorage(Config config, AppParameters appParameters, ReadOnlyUserPrefs userPrefs)
+            throws IOException {
+        StorageBackend source = config.getAddressBookStorageBackend();
+        StorageBackend target = appParameters.getMigrationTarget();
+        if (source == target) {
+            logger.info("The data file is already stored with the " + target + " backend");
+            return;
+        }
+
+        Path configFilePath = appParameters.getConfigPath() != null
+                ? appParameters.getConfigPath()
+                : Config.DEFAULT_CONFIG_FILE;
+        config.setAddressBookStorageBackend(target);
+        try {
+            ConfigUtil.saveConfig(config, configFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e)
+                    + ". Not migrating the data file.");
+            config.setAddressBookStorageBackend(source);
+            return;
+        }
+
+        Path dataFilePath = userPrefs.getHreersDatafilePath();
+        try {
+            AddressBookStorageBackends.migrate(AddressBookStorageBackends.create(source, dataFilePath, config),
+                    AddressBookStorageBackends.create(target, dataFilePath, config));
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to migrate " + dataFilePath + " to the " + target + " backend: "
+                    + StringUtil.getDetails(e));
+            // The data is still stored with the old backend. If the config cannot say so, starting could lose it.
+            config.setAddressBookStorageBackend(source);
+            ConfigUtil.saveConfig(config, configFilePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -90,7 +153,8 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        ChangeLog changeLog = new ChangeLog(config.getUndoHistoryLimit(), ChangeLog.DEFAULT_MAX_RECORDS);
+        return new ModelManager(initialData, userPrefs, clock, changeLog);
     }
 
     private void initLogging(Config config) {
@@ -127,6 +191,26 @@ public class MainApp extends Application {
             initializedConfig = new Config();
         }
 
+        if (initializedConfig.getUndoHistoryLimit() < 0) {
+            logger.warning("Undo history limit " + initializedConfig.getUndoHistoryLimit() + " in " + configFilePathUsed
+                    + " is negative. Using the default limit of " + ChangeLog.DEFAULT_MAX_STEPS + ".");
+            initializedConfig.setUndoHistoryLimit(ChangeLog.DEFAULT_MAX_STEPS);
+        }
+
+        if (initializedConfig.getJournalCompactionThreshold() <= 0) {
+            logger.warning("Journal compaction threshold " + initializedConfig.getJournalCompactionThreshold()
+                    + " in " + configFilePathUsed + " is not positive. Using the default threshold of "
+                    + Config.DEFAULT_JOURNAL_COMPACTION_THRESHOLD + " bytes.");
+            initializedConfig.setJournalCompactionThreshold(Config.DEFAULT_JOURNAL_COMPACTION_THRESHOLD);
+        }
+
+        if (initializedConfig.getSaveGroupCommitWindowMillis() < 0) {
+            logger.warning("Save group commit window " + initializedConfig.getSaveGroupCommitWindowMillis()
+                    + " in " + configFilePathUsed + " is negative. Using the default window of "
+                    + Config.DEFAULT_SAVE_GROUP_COMMIT_WINDOW_MILLIS + " milliseconds.");
+            initializedConfig.setSaveGroupCommitWindowMillis(Config.DEFAULT_SAVE_GROUP_COMMIT_WINDOW_MILLIS);
+        }
+
         //Update config file in case it was missing to begin with or there are new/unused fields
         try {
             ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
@@ -172,11 +256,21 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting Hreers " + MainApp.VERSION);
         ui.start(primaryStage);
+
+        // Reminders only depend on the date, so they are refreshed once a day rather than on every use.
+        midnightScheduler = new MidnightScheduler(clock, () -> Platform.runLater(model::refreshToday));
+        midnightScheduler.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Hreers ] =============================");
+        if (midnightScheduler != null) {
+            midnightScheduler.stop();
+        }
+        if (logic != null) {
+            logic.stopBackgroundSaving();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
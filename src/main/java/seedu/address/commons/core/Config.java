@@ -13,10 +13,16 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 4 * 1024 * 1024;
+    public static final long DEFAULT_SAVE_GROUP_COMMIT_WINDOW_MILLIS = 100;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int undoHistoryLimit = 100;
+    private StorageBackend addressBookStorageBackend = StorageBackend.JSON;
+    private long journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+    private long saveGroupCommitWindowMillis = DEFAULT_SAVE_GROUP_COMMIT_WINDOW_MILLIS;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +40,52 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the maximum number of commands that can be undone.
+     */
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    /**
+     * Returns the way the address book data file is stored.
+     */
+    public StorageBackend getAddressBookStorageBackend() {
+        return addressBookStorageBackend;
+    }
+
+    public void setAddressBookStorageBackend(StorageBackend addressBookStorageBackend) {
+        this.addressBookStorageBackend = addressBookStorageBackend;
+    }
+
+    /**
+     * Returns the size, in bytes, above which the {@link StorageBackend#JOURNALED} journal is folded into the data
+     * file, or the replaced records of the {@link StorageBackend#DATABASE} file are compacted away.
+     */
+    public long getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(long journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    /**
+     * Returns how long, in milliseconds, a background save waits for further changes, so that the changes made
+     * within this window are written and forced to the disk together.
+     */
+    public long getSaveGroupCommitWindowMillis() {
+        return saveGroupCommitWindowMillis;
+    }
+
+    public void setSaveGroupCommitWindowMillis(long saveGroupCommitWindowMillis) {
+        this.saveGroupCommitWindowMillis = saveGroupCommitWindowMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +99,17 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && undoHistoryLimit == otherConfig.undoHistoryLimit
+                && addressBookStorageBackend == otherConfig.addressBookStorageBackend
+                && journalCompactionThreshold == otherConfig.journalCompactionThreshold
+                && saveGroupCommitWindowMillis == otherConfig.saveGroupCommitWindowMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, undoHistoryLimit, addressBookStorageBackend,
+                journalCompactionThreshold, saveGroupCommitWindowMillis);
     }
 
     @Override
@@ -60,6 +117,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("undoHistoryLimit", undoHistoryLimit)
+                .add("addressBookStorageBackend", addressBookStorageBackend)
+                .add("journalCompactionThreshold", journalCompactionThreshold)
+                .add("saveGroupCommitWindowMillis", saveGroupCommitWindowMillis)
                 .toString();
     }
 
@@ -0,0 +1,79 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Runs a task at every local midnight of a {@link Clock}, so that data derived from the current date
+ * can be refreshed once a day instead of being recomputed against the clock on every use.
+ * The task runs on a background daemon thread.
+ */
+public class MidnightScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(MidnightScheduler.class);
+
+    private final Clock clock;
+    private final Runnable task;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a scheduler that runs {@code task} at every midnight of {@code clock}'s time zone.
+     * The scheduler does nothing until {@link #start()} is called.
+     */
+    public MidnightScheduler(Clock clock, Runnable task) {
+        requireAllNonNull(clock, task);
+        this.clock = clock;
+        this.task = task;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "midnight-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules the task to run at the next midnight and every midnight after it.
+     */
+    public void start() {
+        scheduleNext();
+    }
+
+    /**
+     * Cancels all future runs of the task.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleNext() {
+        Duration delay = getDelayUntilNextMidnight(clock);
+        logger.fine("Next midnight refresh in " + delay);
+        executor.schedule(this::runAndReschedule, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void runAndReschedule() {
+        try {
+            task.run();
+        } finally {
+            // If the task ran slightly before midnight, the next run is scheduled for the midnight just ahead.
+            scheduleNext();
+        }
+    }
+
+    /**
+     * Returns the time from the current instant of {@code clock} until the start of the next day
+     * in the clock's time zone.
+     */
+    public static Duration getDelayUntilNextMidnight(Clock clock) {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime nextMidnight = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        return Duration.between(now, nextMidnight);
+    }
+}
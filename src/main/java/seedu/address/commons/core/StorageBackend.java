@@ -0,0 +1,15 @@
+package seedu.address.commons.core;
+
+/**
+ * The ways the address book data file can be stored.
+ */
+public enum StorageBackend {
+    /** A pretty-printed json file, rewritten in full on every save. */
+    JSON,
+    /** A compact json checkpoint plus an append-only journal of the changes made since. */
+    JOURNALED,
+    /** A pretty-printed json file plus a binary snapshot of it, which loads faster. */
+    BINARY_SNAPSHOT,
+    /** A single-file embedded database with one record per employee, updated record by record. */
+    DATABASE
+}
@@ -24,14 +24,27 @@ public class MultiFormatLocalDateDeserializer extends JsonDeserializer<LocalDate
 
     @Override
     public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        String dateStr = p.getText().trim();
+        try {
+            return parse(p.getText());
+        } catch (DateTimeParseException e) {
+            throw new JsonProcessingException(e.getMessage()) {};
+        }
+    }
+
+    /**
+     * Parses {@code dateStr}, ignoring surrounding whitespace, in the first of the supported formats that fits.
+     *
+     * @throws DateTimeParseException if the date is in none of the supported formats.
+     */
+    public static LocalDate parse(String dateStr) {
+        String trimmedDate = dateStr.trim();
         for (DateTimeFormatter formatter : DATE_FORMATTERS) {
             try {
-                return LocalDate.parse(dateStr, formatter);
+                return LocalDate.parse(trimmedDate, formatter);
             } catch (DateTimeParseException e) {
                 // continue
             }
         }
-        throw new JsonProcessingException("Unable to parse date: " + dateStr) {};
+        throw new DateTimeParseException("Unable to parse date: " + trimmedDate, trimmedDate, 0);
     }
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +25,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves the address book on a background thread after each command from now on, so that commands do not wait
+     * for the disk. Messages describing failed saves are passed to {@code failureHandler} on the saving thread.
+     */
+    void startBackgroundSaving(Consumer<String> failureHandler);
+
+    /**
+     * Waits for the pending saves of the address book to finish, and saves it during each command from now on.
+     */
+    void stopBackgroundSaving();
+
     /**
      * Returns the AddressBook.
      *
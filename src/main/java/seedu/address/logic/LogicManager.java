@@ -1,9 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -20,7 +23,6 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
 import seedu.address.model.reminder.Reminder;
-import seedu.address.model.util.EmployeeIdPrefixValidationUtils;
 import seedu.address.storage.Storage;
 
 /**
@@ -49,10 +51,10 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        model.refreshToday();
         logger.info("initiating data validity scan before command execution");
-        List<Pair<EmployeeId, EmployeeId>> conflictingPairs = EmployeeIdPrefixValidationUtils
-                .getPrefixConflictingPairs(model.getFilteredEmployeeList());
-        if (conflictingPairs.size() > 1) {
+        if (model.getEmployeeIdPrefixConflictCount() > 1) {
+            List<Pair<EmployeeId, EmployeeId>> conflictingPairs = model.getEmployeeIdPrefixConflictingPairs();
             CommandResult commandResult = new CommandResult(String.format(
                     "Data integrity error: Employee IDs have conflicting prefixes."
                             + " Please resolve this issue before proceeding. \n"
@@ -69,15 +71,29 @@ public class LogicManager implements Logic {
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    private static String getSaveErrorMessage(IOException ioe) {
+        String format = ioe instanceof AccessDeniedException ? FILE_OPS_PERMISSION_ERROR_FORMAT : FILE_OPS_ERROR_FORMAT;
+        return String.format(format, ioe.getMessage());
+    }
+
+    @Override
+    public void startBackgroundSaving(Consumer<String> failureHandler) {
+        requireNonNull(failureHandler);
+        storage.startBackgroundSaving(ioe -> failureHandler.accept(getSaveErrorMessage(ioe)));
+    }
+
+    @Override
+    public void stopBackgroundSaving() {
+        storage.stopBackgroundSaving();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
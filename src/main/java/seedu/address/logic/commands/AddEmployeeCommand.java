@@ -11,8 +11,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WORK_ANNIVERSARY;
 
-import java.time.LocalDate;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -77,7 +75,7 @@ public class AddEmployeeCommand extends Command {
         //Save the state before any potential changes
         model.commitChanges();
         boolean isAnyAnniAfterToday = toAdd.getAnniversaries().stream()
-                .anyMatch(anniversary -> anniversary.getDate().isAfter(LocalDate.now()));
+                .anyMatch(anniversary -> anniversary.getDate().isAfter(model.getToday()));
 
         model.addEmployee(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd))
@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Employee;
+
+/**
+ * Reports every group of employees that share the same details (name, phone, email, job position and tags),
+ * and lists those employees.
+ */
+public class DuplicatesCommand extends Command {
+
+    public static final String COMMAND_WORD = "duplicates";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists all employees that have the same name, phone, email, job position and tags "
+            + "as another employee, grouped by their shared details.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_DUPLICATES = "No employees with identical details found.";
+
+    public static final String MESSAGE_DUPLICATES_FOUND =
+            "Found %1$d group(s) of employees with identical details:\n%2$s"
+            + "To go back to the full list: Type 'list'.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<List<Employee>> groups = model.getDuplicateEmployeeDetailGroups();
+        if (groups.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_DUPLICATES);
+        }
+
+        Set<Employee> duplicates = new HashSet<>();
+        StringBuilder report = new StringBuilder();
+        for (int i = 0; i < groups.size(); i++) {
+            List<Employee> group = groups.get(i);
+            duplicates.addAll(group);
+            report.append(i + 1).append(". ").append(group.get(0).getName()).append(":");
+            group.forEach(employee -> report.append(" ").append(employee.getEmployeeId()));
+            report.append("\n");
+        }
+
+        model.updateFilteredEmployeeList(duplicates::contains);
+        return new CommandResult(String.format(MESSAGE_DUPLICATES_FOUND, groups.size(), report));
+    }
+}
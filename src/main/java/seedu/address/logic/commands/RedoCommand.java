@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Represents a command to redo the most recently undone operation in the address book.
+ * The command re-applies a change that was reverted by {@code undo}, as long as no other change was made since.
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo successful!";
+    public static final String MESSAGE_FAILURE = "No redo available!";
+
+    /**
+     * Executes the redo command to re-apply the most recently undone change to the address book.
+     * If a redo operation is available, it will be executed. Otherwise, a failure message is returned.
+     *
+     * @param model The model containing the address book data.
+     * @return A CommandResult object indicating the result of the redo operation.
+     * @throws CommandException If there is an error while executing the command.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        if (model.canRedo()) {
+            model.redo();
+            return new CommandResult(MESSAGE_SUCCESS, true);
+        } else {
+            return new CommandResult(MESSAGE_FAILURE);
+        }
+    }
+
+}
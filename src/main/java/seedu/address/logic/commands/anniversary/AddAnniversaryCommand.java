@@ -13,7 +13,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ANNIVERSARY_TYPE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ANNIVERSARY_TYPE_DESC;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMPLOYEEID;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,6 +25,7 @@ import seedu.address.model.Model;
 import seedu.address.model.anniversary.Anniversary;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.EmployeeIdPrefixMatch;
 
 /**
  * Adds an anniversary to an existing Employee in the address book.
@@ -67,23 +67,23 @@ public class AddAnniversaryCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Employee> matchedEmployees = model.getFullFilteredByEmployeeIdPrefixListFromData(employeeIdPrefix);
+        EmployeeIdPrefixMatch match = model.resolveEmployeeIdPrefix(employeeIdPrefix);
 
-        if (matchedEmployees.size() > 1) {
+        if (match.isAmbiguous()) {
             throw new CommandException(String.format(
                     Messages.MESSAGE_MULTIPLE_EMPLOYEES_FOUND_WITH_PREFIX,
                     employeeIdPrefix
             ));
         }
 
-        if (matchedEmployees.isEmpty()) {
+        if (match.isNone()) {
             throw new CommandException(String.format(
                     Messages.MESSAGE_EMPLOYEE_PREFIX_NOT_FOUND,
                     employeeIdPrefix
             ));
         }
 
-        Employee employeeToEdit = matchedEmployees.get(0);
+        Employee employeeToEdit = match.getEmployee().get();
 
         // Check if the same anniversary already exists
         boolean duplicate = employeeToEdit.getAnniversaries().stream()
@@ -114,7 +114,7 @@ public class AddAnniversaryCommand extends Command {
 
         // update the model
         model.setEmployee(employeeToEdit, updatedEmployee);
-        boolean isAnniAfterToday = (toAdd.getDate().isAfter(LocalDate.now()));
+        boolean isAnniAfterToday = (toAdd.getDate().isAfter(model.getToday()));
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd)
                 + (isAnniAfterToday ? "\n" + MESSAGE_WARNING_ANNI_AFTER_TODAY : ""), true,
                 updatedEmployee.getEmployeeIdAsString());
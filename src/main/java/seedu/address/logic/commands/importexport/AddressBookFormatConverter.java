@@ -2,15 +2,22 @@ package seedu.address.logic.commands.importexport;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -36,7 +43,17 @@ public class AddressBookFormatConverter {
      * Creates a lightweight ReadOnlyAddressBook implementation from a list of persons.
      */
     private static ReadOnlyAddressBook createTempAddressBook(ObservableList<Employee> employeeList) {
-        return () -> employeeList;
+        return new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Employee> getEmployeeList() {
+                return employeeList;
+            }
+
+            @Override
+            public long getVersion() {
+                return 0;
+            }
+        };
     }
     /**
      * Exports the displayed people to JSON format.
@@ -56,18 +73,18 @@ public class AddressBookFormatConverter {
 
     /**
      * Exports the displayed people to CSV format.
+     * Each row is written to the file as soon as it is formatted, rather than the whole CSV being built in memory.
      */
     public static void exportToCsv(ObservableList<Employee> displayedPeople, Path filePath) throws IOException {
         requireNonNull(displayedPeople);
-
-        ReadOnlyAddressBook tempAddressBook = createTempAddressBook(displayedPeople);
-        JsonSerializableAddressBook jsonData = new JsonSerializableAddressBook(tempAddressBook);
-
-        String csvData = addressBookToCsv(jsonData);
+        JsonCsvConverter jsonCsvConverter = new JsonCsvConverter(new QueryValidator());
 
         Path outputPath = (filePath != null) ? filePath : DEFAULT_EXPORT_PATH.resolve(DEFAULT_CSV_FILENAME);
-        FileUtil.createParentDirsOfFile(outputPath);
-        Files.writeString(outputPath, csvData);
+        FileUtil.writeToFile(outputPath, outputStream -> {
+            Writer csvWriter = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            jsonCsvConverter.toCsv(displayedPeople, csvWriter);
+            csvWriter.flush();
+        });
         logger.info("Exported to " + outputPath);
     }
     /**
@@ -89,19 +106,21 @@ public class AddressBookFormatConverter {
     }
     //@@author WailyDest
     /**
-     * Imports CSV data from a file and converts it to a JsonSerializableAddressBook.
+     * Imports CSV data from a file and converts it to employees, one per record, in file order.
+     * Chunks of the file are parsed and validated in parallel on the common pool. The records are not aggregated.
      */
-    public static JsonSerializableAddressBook importFromCsv(Path filePath) throws IOException, CommandException {
+    public static List<Employee> importFromCsv(Path filePath)
+            throws IOException, CommandException, IllegalValueException {
         requireNonNull(filePath);
-        String csvData = Files.readString(filePath);
-        return csvToAddressBook(csvData);
+        JsonCsvConverter jsonCsvConverter = new JsonCsvConverter(new QueryValidator());
+        return jsonCsvConverter.toEmployees(filePath, ForkJoinPool.commonPool());
     }
     /**
      * Converts a CSV string to a JsonSerializableAddressBook.
      */
     public static JsonSerializableAddressBook csvToAddressBook(String csvData) throws IOException, CommandException {
         requireNonNull(csvData);
-        JsonCsvConverter jsonCsvConverter = new JsonCsvConverter(JsonUtil.getObjectMapper(), new QueryValidator());
+        JsonCsvConverter jsonCsvConverter = new JsonCsvConverter(new QueryValidator());
         JsonSerializableAddressBook addressBook = jsonCsvConverter
                 .fromCsv(csvData, JsonSerializableAddressBook.class);
         return addressBook.aggregatePersons();
@@ -112,7 +131,7 @@ public class AddressBookFormatConverter {
      */
     public static String addressBookToCsv(JsonSerializableAddressBook addressBook) throws IOException {
         requireNonNull(addressBook);
-        JsonCsvConverter jsonCsvConverter = new JsonCsvConverter(JsonUtil.getObjectMapper(), new QueryValidator());
+        JsonCsvConverter jsonCsvConverter = new JsonCsvConverter(new QueryValidator());
         return jsonCsvConverter.toCsv(addressBook);
     }
 }
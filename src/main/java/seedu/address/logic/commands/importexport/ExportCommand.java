@@ -47,10 +47,10 @@ public class ExportCommand extends Command {
         }
         try {
             if (filetype.equals("json")) {
-                logger.info(String.format("Exporting to json + %s, %s", path , displayedPeople));
+                logger.info(String.format("Exporting %d employees to json + %s", displayedPeople.size(), path));
                 AddressBookFormatConverter.exportToJson(displayedPeople, path);
             } else if (filetype.equals("csv")) {
-                logger.info(String.format("Exporting to CSV + %s, %s", path , displayedPeople));
+                logger.info(String.format("Exporting %d employees to CSV + %s", displayedPeople.size(), path));
                 AddressBookFormatConverter.exportToCsv(displayedPeople, path);
             } else {
                 throw new CommandException("Invalid filetype. " + MESSAGE_USAGE);
@@ -9,11 +9,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_WRITE_MODE;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -31,10 +33,8 @@ import seedu.address.model.anniversary.Anniversary;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
-import seedu.address.model.util.EmployeeIdPrefixValidationUtils;
 import seedu.address.storage.JsonAdaptedPerson;
 import seedu.address.storage.JsonSerializableAddressBook;
-import seedu.address.storage.PersonKey;
 
 /**
  * Imports data from a file.
@@ -79,22 +79,24 @@ public class ImportCommand extends Command {
         try {
             // Import data from file
             model.commitChanges();
-            JsonSerializableAddressBook importedData;
+            List<Employee> importedEmployees;
             if (filetype.equalsIgnoreCase("json")) {
-                importedData = AddressBookFormatConverter.importFromJson(path);
+                JsonSerializableAddressBook importedData = AddressBookFormatConverter.importFromJson(path);
                 logger.info(String.format("Importing from JSON + %s, %s", path, importedData));
+                importedEmployees = toEmployees(importedData);
             } else if (filetype.equalsIgnoreCase("csv")) {
-                importedData = AddressBookFormatConverter.importFromCsv(path);
-                logger.info(String.format("Importing from CSV + %s, %s", path, importedData));
+                // CSV records are converted to employees while the file is parsed.
+                importedEmployees = AddressBookFormatConverter.importFromCsv(path);
+                logger.info(String.format("Importing from CSV + %s, %d records", path, importedEmployees.size()));
             } else {
                 throw new CommandException(MESSAGE_INVALID_FILETYPE);
             }
 
             // Handle different import modes
             if (mode.equalsIgnoreCase("overwrite")) {
-                return handleOverwriteMode(model, importedData);
+                return handleOverwriteMode(model, importedEmployees);
             } else if (mode.equalsIgnoreCase("append")) {
-                return handleAppendMode(model, importedData);
+                return handleAppendMode(model, importedEmployees);
             } else {
                 throw new CommandException(MESSAGE_INVALID_MODE);
             }
@@ -102,29 +104,41 @@ public class ImportCommand extends Command {
             throw new CommandException("Error reading file: " + e.getMessage());
         } catch (DataLoadingException e) {
             throw new CommandException("Error loading data: " + e.getMessage());
+        } catch (IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_DATA, e.getMessage()));
+        }
+    }
+
+    /**
+     * Converts each person of {@code importedData} to an employee, in order.
+     */
+    private static List<Employee> toEmployees(JsonSerializableAddressBook importedData)
+            throws IllegalValueException {
+        List<Employee> employees = new ArrayList<>(importedData.getPersons().size());
+        for (JsonAdaptedPerson adapted : importedData.getPersons()) {
+            employees.add(adapted.toModelType());
         }
+        return employees;
     }
     /**
      * Handles the overwrite mode by replacing the entire address book.
      * Before overwriting, we aggregate the imported data and remove entries that have the same employeeId
-     * but conflicting PersonKey details.
+     * but conflicting details.
      * if there are EmployeeID prefix , it throws.
      */
-    private CommandResult handleOverwriteMode(Model model, JsonSerializableAddressBook importedData)
+    private CommandResult handleOverwriteMode(Model model, List<Employee> importedEmployees)
             throws CommandException {
         try {
-            AggregationResult aggResult = aggregateImportedData(importedData);
+            AggregationResult aggResult = aggregateImportedData(importedEmployees);
             if (!aggResult.conflicts.isEmpty()) {
                 String errorMessage = buildConflictErrorMessage(aggResult.conflicts);
                 throw new CommandException(errorMessage);
             }
             // Build a new AddressBook from the aggregated persons.
             AddressBook newAddressBook = new AddressBook();
-            for (Employee p : aggResult.aggregated) {
-                newAddressBook.addPerson(p);
-            }
+            newAddressBook.setEmployees(aggResult.aggregated);
             List<Pair<EmployeeId, EmployeeId>> conflictingPairs =
-                    EmployeeIdPrefixValidationUtils.getPrefixConflictingPairs(newAddressBook.getEmployeeList());
+                    newAddressBook.getEmployeeIdPrefixConflictingPairs();
             if (!conflictingPairs.isEmpty()) {
                 throw new CommandException(String.format(MESSAGE_MULTIPLE_EMPLOYEES_FOUND_WITH_PREFIX,
                         conflictingPairs.get(0)));
@@ -132,7 +146,7 @@ public class ImportCommand extends Command {
             model.setAddressBook(newAddressBook);
             int importedCount = newAddressBook.getEmployeeList().size();
             return new CommandResult(String.format(MESSAGE_SUCCESS_OVERWRITE, importedCount));
-        } catch (IllegalValueException | DuplicatePersonException e) {
+        } catch (DuplicatePersonException e) {
             throw new CommandException(String.format(MESSAGE_INVALID_DATA, e.getMessage()));
         }
     }
@@ -145,142 +159,163 @@ public class ImportCommand extends Command {
      * Both conflict lists (internal conflicts and model conflicts) are returned.
      * if there are EmployeeID prefix conflicts, it is also included in skipped.
      */
-    private CommandResult handleAppendMode(Model model, JsonSerializableAddressBook importedData)
-            throws CommandException {
-        try {
-            List<List<Employee>> importStats = processImportedPersonsWhenAppend(model, importedData);
-            int importedCount = importStats.get(0).size();
-            List<Employee> skippedList = importStats.get(1);
-            int skippedCount = skippedList.size();
-            String skippedDetails = buildConflictErrorMessage(skippedList);
-            return new CommandResult(String.format(MESSAGE_SUCCESS_APPEND,
-                    importedCount, skippedCount, skippedDetails));
-        } catch (IllegalValueException e) {
-            throw new CommandException(String.format(MESSAGE_INVALID_DATA, e.getMessage()));
-        }
+    private CommandResult handleAppendMode(Model model, List<Employee> importedEmployees) {
+        List<List<Employee>> importStats = processImportedPersonsWhenAppend(model, importedEmployees);
+        int importedCount = importStats.get(0).size();
+        List<Employee> skippedList = importStats.get(1);
+        int skippedCount = skippedList.size();
+        String skippedDetails = buildConflictErrorMessage(skippedList);
+        return new CommandResult(String.format(MESSAGE_SUCCESS_APPEND,
+                importedCount, skippedCount, skippedDetails));
     }
     //@@author cscms03
     /**
      * Processes the imported data in append mode.
      * First, it aggregates the imported employees by removing internal duplicates
-     * (i.e. those with the same employeeId but differing PersonKey details).
+     * (i.e. those with the same employeeId but differing details).
      * Then, for each aggregated employee, it checks for a conflict with the model:
      * if the model already contains a employee with the same employeeId but different details,
      * the imported employee is flagged as a conflict.
+     * The accepted employees are then merged into and added to the model in a single update.
      * Returns a list of two lists:
      * - index 0: employees successfully imported (added or merged)
      * - index 1: employees that were skipped due to conflicts.
      * if there are EmployeeID prefix conflicts, it is also included in omitted.
      */
-    private List<List<Employee>> processImportedPersonsWhenAppend(Model model,
-                                                                  JsonSerializableAddressBook importedData)
-            throws IllegalValueException, CommandException {
+    private List<List<Employee>> processImportedPersonsWhenAppend(Model model, List<Employee> employeesToImport) {
         // First, remove internal duplicates/conflicts from the imported data.
-        AggregationResult aggResult = aggregateImportedData(importedData);
-        List<Employee> aggregatedImported = aggResult.aggregated;
+        AggregationResult aggResult = aggregateImportedData(employeesToImport);
         // Start with the internal conflicts as already omitted.
         List<Employee> omittedEmployees = new ArrayList<>(aggResult.conflicts);
         List<Employee> importedEmployees = new ArrayList<>();
+        Map<Employee, Employee> mergedEmployees = new LinkedHashMap<>();
+        List<Employee> newEmployees = new ArrayList<>();
+        // The IDs of the new employees, none of which is a prefix of another.
+        NavigableSet<String> newEmployeeIds = new TreeSet<>();
 
-        // Now check each aggregated employee against the model.
-        for (Employee employeeToImport : aggregatedImported) {
-            Employee matchInModel = model.getFullFilteredByEmployeeIdPrefixListFromData(
-                            EmployeeId.fromString(employeeToImport.getEmployeeId().toString()))
-                    .stream()
-                    .filter(p -> p.isSameEmployee(employeeToImport))
-                    .findFirst()
-                    .orElse(null);
+        // Now check each aggregated employee against the model and the new employees before it.
+        for (Employee employeeToImport : aggResult.aggregated) {
+            EmployeeId employeeId = employeeToImport.getEmployeeId();
+            // An exact lookup by ID, and a conflict check that stops at the first conflicting ID, keep each
+            // imported employee independent of the number of employees in the model.
+            Employee matchInModel = model.getEmployeeWithId(employeeId).orElse(null);
             if (matchInModel == null) {
                 // No matching employee in model
-                if (model.hasEmployeeIdPrefixConflict(employeeToImport.getEmployeeId())) {
-                    // Prefix conflict with existing employee in model.
+                if (model.hasEmployeeIdPrefixConflict(employeeId)
+                        || hasPrefixConflict(newEmployeeIds, employeeId.value)) {
+                    // Prefix conflict with an existing or new employee.
                     omittedEmployees.add(employeeToImport);
                     continue;
                 }
                 // No conflict in prefix – add new record.
-                model.addEmployee(employeeToImport);
+                newEmployeeIds.add(employeeId.value);
+                newEmployees.add(employeeToImport);
                 importedEmployees.add(employeeToImport);
             } else if (matchInModel.hasSameDetails(employeeToImport)) {
                 // Matching employee exists with same details – merge anniversary lists.
-                List<Anniversary> editList = new ArrayList<>(matchInModel.getAnniversaries());
-                Employee updatedEmployee = Employee.builder()
-                        .employeeId(matchInModel.getEmployeeId())
-                        .name(matchInModel.getName())
-                        .jobPosition(matchInModel.getJobPosition())
-                        .email(matchInModel.getEmail())
-                        .phone(matchInModel.getPhone())
-                        .tags(matchInModel.getTags())
-                        .anniversaries(editList).build();
-                mergeAnniversaries(matchInModel, employeeToImport);
-                model.setEmployee(matchInModel, updatedEmployee);
+                mergedEmployees.put(matchInModel, withMergedAnniversaries(matchInModel, List.of(employeeToImport)));
                 importedEmployees.add(employeeToImport);
             } else {
                 // Conflict with an existing model record.
                 omittedEmployees.add(employeeToImport);
             }
         }
+        if (!mergedEmployees.isEmpty() || !newEmployees.isEmpty()) {
+            model.setAndAddEmployees(mergedEmployees, newEmployees);
+        }
         return List.of(importedEmployees, omittedEmployees);
     }
+
+    /**
+     * Returns true if {@code employeeId} is a prefix of an ID in {@code employeeIds}, or has one as a prefix.
+     * As none of {@code employeeIds} is a prefix of another, a prefix of {@code employeeId} can only be the
+     * greatest ID not after it, and the IDs starting with {@code employeeId} start at the least ID not before it.
+     */
+    private static boolean hasPrefixConflict(NavigableSet<String> employeeIds, String employeeId) {
+        String floor = employeeIds.floor(employeeId);
+        String ceiling = employeeIds.ceiling(employeeId);
+        return (floor != null && employeeId.startsWith(floor))
+                || (ceiling != null && ceiling.startsWith(employeeId));
+    }
+
     //@@author cscms03
     /**
-     * Aggregates the imported data by grouping by employeeId.
-     * For a given employeeId, if all records have the same PersonKey (i.e. same details), they are merged
+     * Aggregates the imported employees by grouping by employeeId.
+     * For a given employeeId, if all records have the same details, they are merged
      * (their anniversaries are combined). Otherwise, if conflicting details are found for the same employeeId,
-     * none are aggregated and all are flagged as internal conflicts.
+     * none are aggregated and all are flagged as internal conflicts, with the records of the same details merged.
+     * The employees are kept in the order their first records were imported in.
      *
      * @return an AggregationResult containing:
      *          - aggregated: a list of valid Employee objects ready for import.
      *          - conflicts: a list of Employee objects that were removed due to conflicting details.
      */
-    private AggregationResult aggregateImportedData(JsonSerializableAddressBook importedData)
-            throws IllegalValueException {
-        Map<EmployeeId, Employee> aggregated = new HashMap<>();
-        // For employeeIds that have conflicts, we use a set to record all differing PersonKeys.
-        Set<EmployeeId> conflictEmployeeIds = new HashSet<>();
+    private AggregationResult aggregateImportedData(List<Employee> importedEmployees) {
+        Map<EmployeeId, List<Employee>> recordsById = new LinkedHashMap<>();
+        for (Employee employee : importedEmployees) {
+            recordsById.computeIfAbsent(employee.getEmployeeId(), id -> new ArrayList<>(1)).add(employee);
+        }
 
-        for (JsonAdaptedPerson adapted : importedData.getPersons()) {
-            Employee employee = adapted.toModelType();
-            EmployeeId employeeId = employee.getEmployeeId();
-            PersonKey key = PersonKey.from(adapted);
-            if (aggregated.containsKey(employeeId)) {
-                Employee existing = aggregated.get(employeeId);
-                PersonKey existingKey = PersonKey.from(existing);
-                if (!existingKey.equals(key)) {
-                    // Conflict: remove any previously aggregated employee with this employeeId.
-                    conflictEmployeeIds.add(employeeId);
-                } else {
-                    // Same details: merge anniversary lists.
-                    mergeAnniversaries(existing, employee);
-                }
-            } else if (conflictEmployeeIds.contains(employeeId)) {
-                // Already flagged as conflict; do nothing.
-                continue;
+        List<Employee> aggregated = new ArrayList<>(recordsById.size());
+        List<Employee> conflicts = new ArrayList<>();
+        for (List<Employee> records : recordsById.values()) {
+            List<Employee> merged = mergeRecordsWithSameDetails(records);
+            if (merged.size() == 1) {
+                aggregated.add(merged.get(0));
             } else {
-                aggregated.put(employeeId, employee);
+                conflicts.addAll(merged);
             }
         }
+        return new AggregationResult(aggregated, conflicts);
+    }
 
-        // Build conflict list: all adapted persons whose employeeId is flagged as conflicting.
-        List<Employee> conflicts = importedData.getPersons().stream()
-                .map(adapted -> {
-                    try {
-                        return adapted.toModelType();
-                    } catch (IllegalValueException e) {
-                        // In case of conversion error, wrap it in a runtime exception.
-                        throw new RuntimeException(e);
-                    }
-                })
-                .filter(person -> conflictEmployeeIds.contains(person.getEmployeeId()))
+    /**
+     * Merges the records in {@code records} that have the same details, keeping the order of their first records.
+     */
+    private List<Employee> mergeRecordsWithSameDetails(List<Employee> records) {
+        if (records.size() == 1) {
+            return records;
+        }
+        List<List<Employee>> recordsByDetails = new ArrayList<>();
+        for (Employee record : records) {
+            List<Employee> sameDetails = recordsByDetails.stream()
+                    .filter(group -> group.get(0).hasSameDetails(record))
+                    .findFirst()
+                    .orElse(null);
+            if (sameDetails == null) {
+                sameDetails = new ArrayList<>();
+                recordsByDetails.add(sameDetails);
+            }
+            sameDetails.add(record);
+        }
+        return recordsByDetails.stream()
+                .map(group -> group.size() == 1
+                        ? group.get(0)
+                        : withMergedAnniversaries(group.get(0), group.subList(1, group.size())))
                 .collect(Collectors.toList());
-
-        return new AggregationResult(new ArrayList<>(aggregated.values()), conflicts);
     }
 
     /**
-     * Merges the anniversaries from the source employee into the target employee.
+     * Returns a copy of {@code target} that also has the anniversaries of {@code sources} it does not have yet.
      */
-    private void mergeAnniversaries(Employee target, Employee source) {
-        target.getAnniversaries().addAll(source.getAnniversaries());
+    private Employee withMergedAnniversaries(Employee target, List<Employee> sources) {
+        List<Anniversary> mergedAnniversaries = new ArrayList<>(target.getAnniversaries());
+        Set<Anniversary> seen = new HashSet<>(mergedAnniversaries);
+        for (Employee source : sources) {
+            for (Anniversary anniversary : source.getAnniversaries()) {
+                if (seen.add(anniversary)) {
+                    mergedAnniversaries.add(anniversary);
+                }
+            }
+        }
+        return Employee.builder()
+                .employeeId(target.getEmployeeId())
+                .name(target.getName())
+                .jobPosition(target.getJobPosition())
+                .email(target.getEmail())
+                .phone(target.getPhone())
+                .tags(target.getTags())
+                .anniversaries(mergedAnniversaries).build();
     }
 
     /**
@@ -1,14 +1,21 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
+import javafx.util.Pair;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.EmployeeIdPrefixMatch;
 import seedu.address.model.person.UniqueEmployeeList;
+import seedu.address.model.reminder.Reminder;
 
 /**
  * Wraps all data at the address-book level
@@ -74,6 +81,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(employee);
         return employees.hasDuplicatePersonDetails(employee);
     }
+
+    /**
+     * Returns every group of two or more employees in the address book that have the same details.
+     */
+    public List<List<Employee>> getDuplicateDetailGroups() {
+        return employees.getDuplicateDetailGroups();
+    }
+
     /**
      * Checks whether the given {@code EmployeeId} has a prefix conflict with any existing employee ID
      * in the address book. A prefix conflict occurs when one employee ID is a prefix of another one.
@@ -97,6 +112,72 @@ public class AddressBook implements ReadOnlyAddressBook {
         return employees.hasEmployeeIdPrefixConflictIgnoringSpecific(employeeId, toIgnore);
     }
 
+    /**
+     * Resolves {@code employeeIdPrefix} to none, exactly one or several employees whose IDs start with it.
+     */
+    public EmployeeIdPrefixMatch findByEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return employees.findByEmployeeIdPrefix(employeeIdPrefix);
+    }
+
+    /**
+     * Returns the employee in the address book with exactly {@code employeeId}, if there is one.
+     */
+    public Optional<Employee> getEmployeeWithId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return employees.getByEmployeeId(employeeId);
+    }
+
+    /**
+     * Returns all employees in the address book whose IDs start with {@code employeeIdPrefix}.
+     */
+    public List<Employee> getEmployeesWithIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return employees.getEmployeesWithIdPrefix(employeeIdPrefix);
+    }
+
+    /**
+     * Returns the pairs of employee IDs in the address book that have prefix conflicts.
+     */
+    public List<Pair<EmployeeId, EmployeeId>> getEmployeeIdPrefixConflictingPairs() {
+        return employees.getPrefixConflictingPairs();
+    }
+
+    /**
+     * Returns the number of pairs of employee IDs in the address book that have prefix conflicts.
+     */
+    public int getEmployeeIdPrefixConflictCount() {
+        return employees.getPrefixConflictCount();
+    }
+
+    /**
+     * Returns reminders for all anniversaries in the address book whose next occurrence is within
+     * {@code daysRange} days of {@code today}, in chronological order.
+     */
+    public List<Reminder> getUpcomingReminders(LocalDate today, int daysRange) {
+        requireNonNull(today);
+        return employees.getRemindersWithin(today, daysRange);
+    }
+
+    /**
+     * Returns reminders for the anniversaries of {@code employee} whose next occurrence is within
+     * {@code daysRange} days of {@code today}, in chronological order.
+     */
+    public List<Reminder> getUpcomingReminders(Employee employee, LocalDate today, int daysRange) {
+        requireAllNonNull(employee, today);
+        return employees.getRemindersWithin(employee.getEmployeeId(), today, daysRange);
+    }
+
+    /**
+     * Returns a comparator that orders reminders the way {@link #getUpcomingReminders(LocalDate, int)} does:
+     * by date, and then by the position of the employee in the address book.
+     * Every reminder compared must belong to an employee in the address book.
+     */
+    public Comparator<Reminder> getReminderComparator() {
+        return Comparator.comparing(Reminder::getDate)
+                .thenComparingInt(reminder -> employees.positionOf(reminder.getEmployee().getEmployeeId()));
+    }
+
     /**
      * Adds a employee to the address book.
      * The employee must not already exist in the address book.
@@ -105,6 +186,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         employees.add(p);
     }
 
+    /**
+     * Inserts a employee into the address book at {@code index}, shifting the employees after it.
+     * The employee must not already exist in the address book.
+     */
+    public void addPerson(int index, Employee p) {
+        employees.add(index, p);
+    }
+
+    /**
+     * Adds all of {@code persons} to the end of the address book, in order.
+     * None of them may already exist in the address book or be the same as one another.
+     */
+    public void addPersons(List<Employee> persons) {
+        employees.addAll(persons);
+    }
+
+    /**
+     * Returns the position of {@code employee} in the address book, or -1 if it is not in the address book.
+     */
+    public int indexOfPerson(Employee employee) {
+        requireNonNull(employee);
+        return employees.positionOf(employee.getEmployeeId());
+    }
+
     /**
      * Replaces the given employee {@code target} in the list with {@code editedEmployee}.
      * {@code target} must exist in the address book.
@@ -138,6 +243,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return employees.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return employees.getVersion();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,41 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Employee;
+
+/**
+ * An unmodifiable copy of the employees of an address book, taken at one version of it.
+ * Only the list is copied, not the employees, so taking a snapshot is cheap. A snapshot can be read
+ * from another thread while the original address book keeps changing.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Employee> employees;
+    private final long version;
+
+    /**
+     * Creates a snapshot of the current employees of {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        employees = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getEmployeeList()));
+        version = source.getVersion();
+    }
+
+    @Override
+    public ObservableList<Employee> getEmployeeList() {
+        return employees;
+    }
+
+    /**
+     * Returns the version of the original address book when this snapshot was taken.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
@@ -1,13 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.EmployeeIdPrefixMatch;
 import seedu.address.model.reminder.Reminder;
 
 /**
@@ -64,6 +69,13 @@ public interface Model {
      * Returns true if more than one employee with the same identity as {@code employee} exists in the address book.
      */
     boolean hasDuplicateEmployeeDetails(Employee employee);
+
+    /**
+     * Returns every group of two or more employees in the address book that have the same details
+     * (name, phone, email, job position and tags).
+     */
+    List<List<Employee>> getDuplicateEmployeeDetailGroups();
+
     /**
      * Deletes the given employee.
      * The employee must exist in the address book.
@@ -87,6 +99,16 @@ public interface Model {
      */
     boolean hasEmployeeIdPrefixConflictIgnoringSpecific(EmployeeId employeeId, EmployeeId toIgnore);
 
+    /**
+     * Returns the number of pairs of employee IDs in the address book that have prefix conflicts.
+     */
+    int getEmployeeIdPrefixConflictCount();
+
+    /**
+     * Returns the pairs of employee IDs in the address book that have prefix conflicts.
+     */
+    List<Pair<EmployeeId, EmployeeId>> getEmployeeIdPrefixConflictingPairs();
+
     /**
      * Adds the given employee.
      * {@code employee} must not already exist in the address book.
@@ -101,6 +123,13 @@ public interface Model {
      */
     void setEmployee(Employee target, Employee editedEmployee);
 
+    /**
+     * Replaces each key of {@code replacements} with its value, then adds {@code employeesToAdd} in order,
+     * as a single update of the address book.
+     * The keys must exist in the address book, and no two employees in the result may have the same identity.
+     */
+    void setAndAddEmployees(Map<Employee, Employee> replacements, List<Employee> employeesToAdd);
+
     /** Returns an unmodifiable view of the filtered employee list */
     ObservableList<Employee> getFilteredEmployeeList();
 
@@ -116,15 +145,63 @@ public interface Model {
      */
     List<Employee> getFullFilteredByEmployeeIdPrefixListFromData(EmployeeId employeeIdPrefix);
 
+    /**
+     * Returns the employee in the full data with exactly the provided EmployeeId, if there is one.
+     */
+    Optional<Employee> getEmployeeWithId(EmployeeId employeeId);
+
+    /**
+     * Resolves the provided EmployeeId prefix against the full data, reporting whether it matches
+     * no employee, exactly one employee, or several employees.
+     */
+    EmployeeIdPrefixMatch resolveEmployeeIdPrefix(EmployeeId employeeIdPrefix);
+
     /**
      * Updates the filter of the filtered employee list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredEmployeeList(Predicate<Employee> predicate);
 
+    /**
+     * Starts a new step in the undo history. The changes made from now on are undone together,
+     * and the steps that were undone can no longer be redone.
+     */
     void commitChanges();
 
+    /**
+     * Returns true if there is a step in the undo history to undo.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone step to redo.
+     */
+    boolean canRedo();
+
+    /**
+     * Reverts the changes of the most recent step in the undo history.
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    void undo();
+
+    /**
+     * Re-applies the changes of the most recently undone step.
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    void redo();
+
     ObservableList<Reminder> getReminderList();
 
     void updateReminderList();
+
+    /**
+     * Returns the date that the model treats as today.
+     * The date stays the same until {@link #refreshToday()} is called, so that a command sees a single "today".
+     */
+    LocalDate getToday();
+
+    /**
+     * Reads today's date from the model's clock. If the date has changed, the reminders are recomputed for it.
+     */
+    void refreshToday();
 }
@@ -4,11 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.time.DateTimeException;
+import java.time.Clock;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -16,11 +16,14 @@ import java.util.logging.Logger;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.history.ChangeLog;
+import seedu.address.model.history.EmployeeChange;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.EmployeeIdPrefixMatch;
 import seedu.address.model.reminder.Reminder;
 
 /**
@@ -35,26 +38,47 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Employee> filteredEmployees;
-    private int currentStatePointer = 0;
-    private List<AddressBook> addressBookStates = new ArrayList<>();
+    private final ChangeLog changeLog;
 
     private final ObservableList<Reminder> reminderList = FXCollections.observableArrayList();
+    private final Clock clock;
+    private LocalDate today;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, using the system clock.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, reading today's date from {@code clock}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        this(addressBook, userPrefs, clock, new ChangeLog());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, reading today's date from {@code clock}
+     * and recording the changes that can be undone in {@code changeLog}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Clock clock,
+            ChangeLog changeLog) {
+        requireAllNonNull(addressBook, userPrefs, clock, changeLog);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.clock = clock;
+        this.changeLog = changeLog;
+        this.today = LocalDate.now(clock);
 
         filteredEmployees = new FilteredList<>(this.addressBook.getEmployeeList());
 
         // Apply default filtering
         filteredEmployees.setPredicate(employee -> true);
+        updateReminderList();
     }
 
     public ModelManager() {
@@ -100,7 +124,10 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        List<Employee> previousEmployees = List.copyOf(this.addressBook.getEmployeeList());
         this.addressBook.resetData(addressBook);
+        changeLog.record(EmployeeChange.reset(previousEmployees, this.addressBook.getEmployeeList()));
+        updateReminderList();
     }
 
     @Override
@@ -109,114 +136,72 @@ public class ModelManager implements Model {
     }
 
     /**
-     * Updates the reminder list by scanning all persons in the address book and collecting
-     * upcoming anniversaries within a specified range (e.g. 3 days).
+     * Updates the reminder list with the upcoming anniversaries within a specified range (e.g. 3 days).
      *
-     * Each upcoming anniversary is converted into a {@link seedu.address.model.reminder.Reminder}
-     * and added to the internal reminder list. The list is sorted chronologically.
+     * The anniversaries are looked up in the address book's anniversary calendar, so only the anniversaries
+     * falling on the days in range are examined. Each one is converted into a
+     * {@link seedu.address.model.reminder.Reminder}, and the list is sorted chronologically.
+     *
+     * Reminders are computed for the model's current {@link #getToday() today}.
+     * This replaces the whole list, so it is only used when the date or the entire address book changes.
+     * Changes to single employees are applied to the list by {@link #removeReminders(Employee)} and
+     * {@link #addReminders(Employee)}.
      */
     @Override
     public void updateReminderList() {
-        reminderList.clear();
-        addressBook.getEmployeeList().stream()
-                .map(this::extractRemindersFromPerson)
-                .flatMap(List::stream)
-                .sorted()
-                .forEach(reminderList::add);
+        reminderList.setAll(addressBook.getUpcomingReminders(today, REMINDED_DATE_RANGE));
     }
 
-    /**
-     * Extracts all upcoming anniversary reminders for a given person.
-     *
-     * @param employee The person to check for upcoming anniversaries.
-     * @return A list of {@link Reminder} objects, one for each upcoming anniversary within range.
-     */
-    private List<Reminder> extractRemindersFromPerson(Employee employee) {
-        return employee.getAnniversaries().stream()
-                .map(anni -> toReminderIfWithinRange(employee, anni, REMINDED_DATE_RANGE))
-                .flatMap(Optional::stream)
-                .toList();
+    @Override
+    public LocalDate getToday() {
+        return today;
     }
 
-    /**
-     * Converts an anniversary to a {@link Reminder} if its next occurrence is within a given range.
-     *
-     * @param employee The person the anniversary belongs to.
-     * @param anniversary The anniversary to evaluate.
-     * @param daysRange The max number of days ahead to include.
-     * @return An Optional containing a Reminder if it qualifies, otherwise an empty Optional.
-     */
-    private Optional<Reminder> toReminderIfWithinRange(Employee employee, Anniversary anniversary, int daysRange) {
-        LocalDate nextDate = getNextOccurrence(anniversary.getDate());
-        if (nextDate == null) {
-            return Optional.empty();
-        }
-
-        long daysLeft = ChronoUnit.DAYS.between(LocalDate.now(), nextDate);
-        if (daysLeft < 0 || daysLeft > daysRange) {
-            return Optional.empty();
+    @Override
+    public void refreshToday() {
+        LocalDate now = LocalDate.now(clock);
+        if (now.equals(today)) {
+            return;
         }
-
-        Reminder reminder = new Reminder(
-                employee,
-                nextDate,
-                anniversary.getType(),
-                anniversary.getDescription()
-        );
-        return Optional.of(reminder);
+        logger.info("Date changed to " + now + ", refreshing reminders");
+        today = now;
+        updateReminderList();
     }
 
-    //@@author cscms03
     /**
-     * Returns the next occurrence of a given date (month and day),
-     * assuming it's a recurring annual event like a birthday or anniversary.
-     * If the input date is in the future (including the year), it returns it as-is.
-     * If the date has already passed this year, it returns the same month/day next year.
-     *
-     * @param date The anniversary's original date to base the recurrence on
-     * @return A {@link LocalDate} representing the next occurrence of the anniversary (preserving month and day) / null
+     * Removes the reminders of {@code employee} from the reminder list, leaving the other reminders untouched.
      */
-    private LocalDate getNextOccurrence(LocalDate date) {
-        if (date == null) {
-            return null;
-        }
-
-        LocalDate today = LocalDate.now();
-
-        // If the original date is in the future (compared to today), return it directly
-        if (date.isAfter(today)) {
-            return date;
-        }
-
-        LocalDate candidate = safeDate(today.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    private void removeReminders(Employee employee) {
+        EmployeeId employeeId = employee.getEmployeeId();
+        reminderList.removeIf(reminder -> reminder.getEmployee().getEmployeeId().equals(employeeId));
+    }
 
-        if (candidate == null || candidate.isBefore(today)) {
-            candidate = safeDate(today.getYear() + 1, date.getMonthValue(), date.getDayOfMonth());
+    /**
+     * Inserts the reminders of {@code employee}, which must be in the address book, into the reminder list
+     * at the positions that keep the list sorted.
+     */
+    private void addReminders(Employee employee) {
+        Comparator<Reminder> comparator = addressBook.getReminderComparator();
+        for (Reminder reminder : addressBook.getUpcomingReminders(employee, today, REMINDED_DATE_RANGE)) {
+            reminderList.add(findInsertionIndex(reminder, comparator), reminder);
         }
-
-        return candidate;
     }
 
     /**
-     * Returns a valid {@link LocalDate} for the given year, month, and day.
-     * Falls back to Feb 28 if the date is Feb 29 on a non-leap year.
-     * Asserts false and returns {@code null} for other invalid dates.
-     *
-     * @param year Year value.
-     * @param month Month value (1–12).
-     * @param day Day value (1–31).
-     * @return A valid {@code LocalDate}, fallback, or {@code null} if invalid.
+     * Returns the index after the last reminder in the reminder list that is not ordered after {@code reminder}.
      */
-    private LocalDate safeDate(int year, int month, int day) {
-        try {
-            return LocalDate.of(year, month, day);
-        } catch (DateTimeException e) {
-            if (month == 2 && day == 29) {
-                return LocalDate.of(year, 2, 28); // fallback for leap day
+    private int findInsertionIndex(Reminder reminder, Comparator<Reminder> comparator) {
+        int low = 0;
+        int high = reminderList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(reminderList.get(mid), reminder) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
-            assert false : String.format("Unexpected invalid date: %04d-%02d-%02d", year, month, day);
-            return null;
         }
+        return low;
     }
 
     @Override
@@ -242,29 +227,65 @@ public class ModelManager implements Model {
         return addressBook.hasEmployeeIdPrefixConflictIgnoringSpecific(employeeId, toIgnore);
     }
 
+    @Override
+    public int getEmployeeIdPrefixConflictCount() {
+        return addressBook.getEmployeeIdPrefixConflictCount();
+    }
+
+    @Override
+    public List<Pair<EmployeeId, EmployeeId>> getEmployeeIdPrefixConflictingPairs() {
+        return addressBook.getEmployeeIdPrefixConflictingPairs();
+    }
+
     @Override
     public boolean hasDuplicateEmployeeDetails(Employee employee) {
         requireNonNull(employee);
         return addressBook.hasDuplicatePersonDetails(employee);
     }
 
+    @Override
+    public List<List<Employee>> getDuplicateEmployeeDetailGroups() {
+        return addressBook.getDuplicateDetailGroups();
+    }
+
     @Override
     public void deleteEmployee(Employee target) {
+        int index = addressBook.indexOfPerson(target);
         addressBook.removePerson(target);
-        updateReminderList();
+        changeLog.record(EmployeeChange.removed(index, target));
+        removeReminders(target);
     }
 
     @Override
     public void addEmployee(Employee employee) {
         addressBook.addPerson(employee);
+        changeLog.record(EmployeeChange.added(employee));
         updateFilteredEmployeeList(PREDICATE_SHOW_ALL_EMPLOYEES);
-        updateReminderList();
+        addReminders(employee);
     }
 
     @Override
     public void setEmployee(Employee target, Employee editedEmployee) {
         requireAllNonNull(target, editedEmployee);
         addressBook.setPerson(target, editedEmployee);
+        changeLog.record(EmployeeChange.replaced(target, editedEmployee));
+        removeReminders(target);
+        addReminders(editedEmployee);
+    }
+
+    @Override
+    public void setAndAddEmployees(Map<Employee, Employee> replacements, List<Employee> employeesToAdd) {
+        requireAllNonNull(replacements, employeesToAdd);
+        for (Map.Entry<Employee, Employee> replacement : replacements.entrySet()) {
+            addressBook.setPerson(replacement.getKey(), replacement.getValue());
+            changeLog.record(EmployeeChange.replaced(replacement.getKey(), replacement.getValue()));
+        }
+        addressBook.addPersons(employeesToAdd);
+        for (Employee employee : employeesToAdd) {
+            changeLog.record(EmployeeChange.added(employee));
+        }
+        // The list is refiltered and the reminders recomputed once for the whole update, not per employee.
+        updateFilteredEmployeeList(PREDICATE_SHOW_ALL_EMPLOYEES);
         updateReminderList();
     }
 
@@ -288,12 +309,21 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public ObservableList<Employee> getFullFilteredByEmployeeIdPrefixListFromData(EmployeeId employeeIdPrefix) {
+    public List<Employee> getFullFilteredByEmployeeIdPrefixListFromData(EmployeeId employeeIdPrefix) {
         requireNonNull(employeeIdPrefix);
-        return new FilteredList<>(
-                addressBook.getEmployeeList(),
-                employee -> employeeIdPrefix.isPrefixOf(employee.getEmployeeId())
-        );
+        return addressBook.getEmployeesWithIdPrefix(employeeIdPrefix);
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeWithId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return addressBook.getEmployeeWithId(employeeId);
+    }
+
+    @Override
+    public EmployeeIdPrefixMatch resolveEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return addressBook.findByEmployeeIdPrefix(employeeIdPrefix);
     }
 
     @Override
@@ -321,37 +351,52 @@ public class ModelManager implements Model {
 
     /**
      * Checks if the address book can be undone.
-     * This is determined by whether the current state pointer is greater than 0,
-     * indicating that there is at least one previous state to revert to.
+     * This is determined by whether the change log holds at least one step to revert.
      *
      * @return True if the address book has a previous state to undo, otherwise false.
      */
-    public boolean canUndoAddressBook() {
-        return currentStatePointer > 0;
+    @Override
+    public boolean canUndo() {
+        return changeLog.canUndo();
     }
 
     /**
-     * Undoes the most recent change to the address book.
-     * This reverts the address book to its previous state based on the current state pointer.
-     * The state pointer is decremented, and the address book is updated with the previous state.
+     * Checks if an undone change to the address book can be redone.
      *
-     * @throws IllegalStateException If no undo is available (i.e., no previous state exists).
+     * @return True if there is an undone step to redo, otherwise false.
      */
-    public void undoAddressBook() {
-        if (canUndoAddressBook()) {
-            currentStatePointer--;
-            addressBook.resetData(addressBookStates.get(currentStatePointer));
-        }
+    @Override
+    public boolean canRedo() {
+        return changeLog.canRedo();
+    }
+
+    /**
+     * Undoes the most recent change to the address book.
+     * The changes recorded since the last commit are reverted one by one, latest first,
+     * so the cost depends on the size of the change rather than the size of the address book.
+     */
+    @Override
+    public void undo() {
+        changeLog.undo(addressBook);
+        updateReminderList();
+    }
+
+    /**
+     * Redoes the most recently undone change to the address book.
+     * The changes are re-applied one by one in their original order, without copying the address book.
+     */
+    @Override
+    public void redo() {
+        changeLog.redo(addressBook);
+        updateReminderList();
     }
 
     /**
      * Commits the current state of the address book to the history.
-     * This creates a new snapshot of the current address book and adds it to the list of address book states.
-     * The current state pointer is incremented to reflect the new committed state.
+     * This starts a new step in the change log; the changes made from now on are undone together.
      */
     public void commitAddressBook() {
-        addressBookStates.add(new AddressBook(addressBook));
-        currentStatePointer++;
+        changeLog.beginStep();
     }
 
     /**
@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Employee> getEmployeeList();
 
+    /**
+     * Returns a number that changes whenever the employees list is modified, so that callers can tell whether
+     * the address book has changed since they last saw it.
+     */
+    long getVersion();
+
 }
@@ -0,0 +1,171 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.ListIterator;
+
+import seedu.address.model.AddressBook;
+
+/**
+ * A bounded history of the changes made to an {@code AddressBook}, grouped into steps that can be undone
+ * and redone.
+ * A step is started before each command that modifies the address book, and holds every change made until the
+ * next step starts. Starting a step discards the steps that were undone, since they can no longer be redone.
+ * Only the most recent steps are kept: the oldest ones are dropped once there are more than the maximum number
+ * of steps, or once the steps hold more than the maximum number of employee records.
+ */
+public class ChangeLog {
+
+    public static final int DEFAULT_MAX_STEPS = 100;
+
+    /** The default number of employee records that can be held across all steps. */
+    public static final int DEFAULT_MAX_RECORDS = 100_000;
+
+    private final int maxSteps;
+    private final int maxRecords;
+    private final Deque<List<EmployeeChange>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<EmployeeChange>> redoSteps = new ArrayDeque<>();
+    private int recordCount;
+    private boolean isRecording;
+
+    /**
+     * Creates a change log with the default limits.
+     */
+    public ChangeLog() {
+        this(DEFAULT_MAX_STEPS, DEFAULT_MAX_RECORDS);
+    }
+
+    /**
+     * Creates a change log that keeps at most {@code maxSteps} steps, holding at most {@code maxRecords}
+     * employee records. The most recent step is kept even if it holds more records than that.
+     */
+    public ChangeLog(int maxSteps, int maxRecords) {
+        checkArgument(maxSteps >= 0, "The maximum number of steps cannot be negative.");
+        checkArgument(maxRecords >= 0, "The maximum number of records cannot be negative.");
+        this.maxSteps = maxSteps;
+        this.maxRecords = maxRecords;
+    }
+
+    /**
+     * Starts a new step. Changes recorded from now on are undone together.
+     */
+    public void beginStep() {
+        redoSteps.clear();
+        if (maxSteps == 0) {
+            return;
+        }
+        undoSteps.addLast(new ArrayList<>());
+        isRecording = true;
+        trim();
+    }
+
+    /**
+     * Returns true if changes are currently being recorded, i.e. a step has been started and not undone.
+     * Callers can check this to avoid preparing a change that would be discarded.
+     */
+    public boolean isRecording() {
+        return isRecording;
+    }
+
+    /**
+     * Records {@code change} in the current step. The change is discarded if no step is being recorded,
+     * along with the steps that could be redone, since they no longer apply after the change.
+     */
+    public void record(EmployeeChange change) {
+        requireNonNull(change);
+        if (!isRecording) {
+            redoSteps.clear();
+            return;
+        }
+        undoSteps.getLast().add(change);
+        recordCount += change.getRecordCount();
+        trim();
+    }
+
+    /**
+     * Returns true if there is a step to undo.
+     */
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone step to redo.
+     */
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverts the changes of the most recent step on {@code addressBook}, latest change first, and keeps
+     * the step so that it can be redone. Changes made afterwards are not recorded until the next step starts.
+     *
+     * @throws IllegalStateException if there is no step to undo.
+     */
+    public void undo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no step to undo.");
+        }
+        List<EmployeeChange> step = undoSteps.removeLast();
+        recordCount -= countRecords(step);
+        isRecording = false;
+
+        ListIterator<EmployeeChange> changes = step.listIterator(step.size());
+        while (changes.hasPrevious()) {
+            changes.previous().undo(addressBook);
+        }
+        redoSteps.addLast(step);
+    }
+
+    /**
+     * Re-applies the changes of the most recently undone step on {@code addressBook}, in the order they were
+     * made, so that the step can be undone again.
+     *
+     * @throws IllegalStateException if there is no step to redo.
+     */
+    public void redo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no step to redo.");
+        }
+        List<EmployeeChange> step = redoSteps.removeLast();
+        isRecording = false;
+
+        for (EmployeeChange change : step) {
+            change.redo(addressBook);
+        }
+        undoSteps.addLast(step);
+        recordCount += countRecords(step);
+        trim();
+    }
+
+    /**
+     * Returns the number of steps that can be undone.
+     */
+    public int getUndoStepCount() {
+        return undoSteps.size();
+    }
+
+    /**
+     * Drops the oldest steps until the limits are met, always keeping the most recent step.
+     */
+    private void trim() {
+        while (undoSteps.size() > maxSteps || (recordCount > maxRecords && undoSteps.size() > 1)) {
+            recordCount -= countRecords(undoSteps.removeFirst());
+        }
+    }
+
+    private static int countRecords(List<EmployeeChange> step) {
+        int count = 0;
+        for (EmployeeChange change : step) {
+            count += change.getRecordCount();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Employee;
+
+/**
+ * A single change to the employees of an {@code AddressBook}, recorded so that it can be reverted and re-applied.
+ * A change only holds the employee records it touched, so reverting or re-applying it costs time proportional
+ * to its size rather than to the size of the address book.
+ */
+public abstract class EmployeeChange {
+
+    /**
+     * Returns a change recording that {@code employee} was added to the end of the address book.
+     */
+    public static EmployeeChange added(Employee employee) {
+        requireNonNull(employee);
+        return new Added(employee);
+    }
+
+    /**
+     * Returns a change recording that {@code employee} was removed from position {@code index}.
+     */
+    public static EmployeeChange removed(int index, Employee employee) {
+        requireNonNull(employee);
+        return new Removed(index, employee);
+    }
+
+    /**
+     * Returns a change recording that {@code target} was replaced by {@code editedEmployee}.
+     */
+    public static EmployeeChange replaced(Employee target, Employee editedEmployee) {
+        requireAllNonNull(target, editedEmployee);
+        return new Replaced(target, editedEmployee);
+    }
+
+    /**
+     * Returns a change recording that all employees were replaced, where {@code previousEmployees} are the
+     * employees before the change and {@code nextEmployees} are the employees after it.
+     */
+    public static EmployeeChange reset(List<Employee> previousEmployees, List<Employee> nextEmployees) {
+        requireAllNonNull(previousEmployees, nextEmployees);
+        return new Reset(List.copyOf(previousEmployees), List.copyOf(nextEmployees));
+    }
+
+    /**
+     * Reverts this change on {@code addressBook}, which must be in the state right after the change.
+     */
+    public abstract void undo(AddressBook addressBook);
+
+    /**
+     * Re-applies this change on {@code addressBook}, which must be in the state right before the change.
+     */
+    public abstract void redo(AddressBook addressBook);
+
+    /**
+     * Returns the number of employee records held by this change.
+     */
+    public abstract int getRecordCount();
+
+    private static class Added extends EmployeeChange {
+        private final Employee employee;
+
+        Added(Employee employee) {
+            this.employee = employee;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.removePerson(employee);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.addPerson(employee);
+        }
+
+        @Override
+        public int getRecordCount() {
+            return 1;
+        }
+    }
+
+    private static class Removed extends EmployeeChange {
+        private final int index;
+        private final Employee employee;
+
+        Removed(int index, Employee employee) {
+            this.index = index;
+            this.employee = employee;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.addPerson(index, employee);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.removePerson(employee);
+        }
+
+        @Override
+        public int getRecordCount() {
+            return 1;
+        }
+    }
+
+    private static class Replaced extends EmployeeChange {
+        private final Employee target;
+        private final Employee editedEmployee;
+
+        Replaced(Employee target, Employee editedEmployee) {
+            this.target = target;
+            this.editedEmployee = editedEmployee;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setPerson(editedEmployee, target);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.setPerson(target, editedEmployee);
+        }
+
+        @Override
+        public int getRecordCount() {
+            return 2;
+        }
+    }
+
+    private static class Reset extends EmployeeChange {
+        private final List<Employee> previousEmployees;
+        private final List<Employee> nextEmployees;
+
+        Reset(List<Employee> previousEmployees, List<Employee> nextEmployees) {
+            this.previousEmployees = previousEmployees;
+            this.nextEmployees = nextEmployees;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setEmployees(previousEmployees);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.setEmployees(nextEmployees);
+        }
+
+        @Override
+        public int getRecordCount() {
+            return previousEmployees.size() + nextEmployees.size();
+        }
+    }
+}
@@ -93,11 +93,20 @@ public class Employee {
      * @return The next upcoming date as a {@code LocalDate} object, or {@code null} if none exists.
      */
     public LocalDate getNextUpcomingDate() {
+        return getNextUpcomingDate(LocalDate.now());
+    }
+
+    /**
+     * Returns the next upcoming important date (birthday or work anniversary) for this employee,
+     * counting from {@code today}.
+     *
+     * @return The next upcoming date as a {@code LocalDate} object, or {@code null} if none exists.
+     */
+    public LocalDate getNextUpcomingDate(LocalDate today) {
         return anniversaries.stream()
                 .map(Anniversary::getDate) // Get the anniversary dates
                 .filter(date -> date != null) // Filter out null values
                 .map(date -> {
-                    LocalDate today = LocalDate.now();
                     LocalDate nextDate = date.withYear(today.getYear());
 
                     // If the date has already passed this year, set it to next year
@@ -114,10 +123,10 @@ public class Employee {
      * Calculates the next upcoming date for a given anniversary date.
      *
      * @param date The original anniversary date.
+     * @param today The date to count from.
      * @return The next upcoming anniversary date adjusted to the current or next year.
      */
-    private LocalDate calculateNextUpcomingDate(LocalDate date) {
-        LocalDate today = LocalDate.now();
+    private static LocalDate calculateNextUpcomingDate(LocalDate date, LocalDate today) {
         LocalDate nextDate = date.withYear(today.getYear());
         return nextDate.isBefore(today) ? nextDate.plusYears(1) : nextDate;
     }
@@ -126,14 +135,15 @@ public class Employee {
      * Returns the next upcoming date for the given anniversary type.
      *
      * @param anniversaryTypeName The class representing the anniversary type (e.g., Birthday.class).
+     * @param today The date to count from.
      * @return The next upcoming date, or {@code null} if no matching anniversary is found.
      */
-    private LocalDate getNextUpcomingDateByType(String anniversaryTypeName) {
+    private LocalDate getNextUpcomingDateByType(String anniversaryTypeName, LocalDate today) {
         return anniversaries.stream()
                 .filter(a -> a.getType().getName().equalsIgnoreCase(anniversaryTypeName))
                 .map(Anniversary::getDate)
                 .filter(Objects::nonNull)
-                .map(this::calculateNextUpcomingDate)
+                .map(date -> calculateNextUpcomingDate(date, today))
                 .min(LocalDate::compareTo)
                 .orElse(null);
     }
@@ -144,7 +154,7 @@ public class Employee {
      * @return The upcoming birthday as a {@code LocalDate}, or {@code null} if none found.
      */
     public LocalDate getNextUpcomingBirthdayDate() {
-        return getNextUpcomingDateByType("Birthday");
+        return getNextUpcomingDateByType("Birthday", LocalDate.now());
     }
 
     /**
@@ -153,7 +163,7 @@ public class Employee {
      * @return The upcoming work anniversary as a {@code LocalDate}, or {@code null} if none found.
      */
     public LocalDate getNextUpcomingWorkAnniversaryDate() {
-        return getNextUpcomingDateByType("Work Anniversary");
+        return getNextUpcomingDateByType("Work Anniversary", LocalDate.now());
     }
 
     public String getEmployeeIdAsString() {
@@ -169,11 +179,18 @@ public class Employee {
      *         {@code false} otherwise or if no upcoming date is available.
      */
     public boolean isUpcomingWithinDays(String anniversaryTypeName, int days) {
-        LocalDate nextDate = getNextUpcomingDateByType(anniversaryTypeName);
+        return isUpcomingWithinDays(anniversaryTypeName, days, LocalDate.now());
+    }
+
+    /**
+     * Checks if the next upcoming date of the given anniversary type for this employee is within
+     * the specified number of days from {@code today}.
+     */
+    public boolean isUpcomingWithinDays(String anniversaryTypeName, int days, LocalDate today) {
+        LocalDate nextDate = getNextUpcomingDateByType(anniversaryTypeName, today);
         if (nextDate == null) {
             return false;
         }
-        LocalDate today = LocalDate.now();
         return !nextDate.isBefore(today) && !nextDate.isAfter(today.plusDays(days));
     }
 
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * The fields of an employee that {@link Employee#hasSameDetails(Employee)} compares, used as a hash key
+ * so that employees with identical details can be found without comparing against every other employee.
+ * Two {@code EmployeeDetails} are equal exactly when the employees they were taken from have the same details.
+ */
+class EmployeeDetails {
+
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+    private final JobPosition jobPosition;
+    private final Set<Tag> tags;
+    private final int hash;
+
+    /**
+     * Captures the details of {@code employee}.
+     */
+    EmployeeDetails(Employee employee) {
+        requireNonNull(employee);
+        name = employee.getName();
+        phone = employee.getPhone();
+        email = employee.getEmail();
+        jobPosition = employee.getJobPosition();
+        tags = Set.copyOf(employee.getTags());
+        hash = Objects.hash(name, phone, email, jobPosition, tags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EmployeeDetails)) {
+            return false;
+        }
+
+        EmployeeDetails otherDetails = (EmployeeDetails) other;
+        return hash == otherDetails.hash
+                && name.equals(otherDetails.name)
+                && phone.equals(otherDetails.phone)
+                && email.equals(otherDetails.email)
+                && jobPosition.equals(otherDetails.jobPosition)
+                && tags.equals(otherDetails.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
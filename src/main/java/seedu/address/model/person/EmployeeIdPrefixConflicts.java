@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.util.Pair;
+
+/**
+ * The set of pairs of employee IDs that have prefix conflicts, kept up to date as employees are added and removed.
+ * Conflicts are stored as an adjacency map so that removing an employee only touches its own conflicts,
+ * and the number of conflicting pairs can be read in constant time.
+ */
+class EmployeeIdPrefixConflicts {
+
+    private final Map<EmployeeId, Set<EmployeeId>> conflictingIds = new HashMap<>();
+    private int pairCount;
+
+    /**
+     * Records that {@code employeeId} has a prefix conflict with each of {@code conflictingEmployees}.
+     * An employee with exactly {@code employeeId} is ignored.
+     */
+    public void addAll(EmployeeId employeeId, List<Employee> conflictingEmployees) {
+        requireNonNull(employeeId);
+        for (Employee conflictingEmployee : conflictingEmployees) {
+            add(employeeId, conflictingEmployee.getEmployeeId());
+        }
+    }
+
+    /**
+     * Records that {@code first} and {@code second} have a prefix conflict.
+     */
+    public void add(EmployeeId first, EmployeeId second) {
+        if (first.equals(second)) {
+            return;
+        }
+        if (conflictingIds.computeIfAbsent(first, id -> new HashSet<>()).add(second)) {
+            conflictingIds.computeIfAbsent(second, id -> new HashSet<>()).add(first);
+            pairCount++;
+        }
+    }
+
+    /**
+     * Forgets every conflict involving {@code employeeId}.
+     */
+    public void removeAll(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        Set<EmployeeId> partners = conflictingIds.remove(employeeId);
+        if (partners == null) {
+            return;
+        }
+        for (EmployeeId partner : partners) {
+            Set<EmployeeId> partnerConflicts = conflictingIds.get(partner);
+            partnerConflicts.remove(employeeId);
+            if (partnerConflicts.isEmpty()) {
+                conflictingIds.remove(partner);
+            }
+        }
+        pairCount -= partners.size();
+    }
+
+    /**
+     * Replaces all recorded conflicts with {@code pairs}.
+     */
+    public void setAll(List<Pair<EmployeeId, EmployeeId>> pairs) {
+        clear();
+        for (Pair<EmployeeId, EmployeeId> pair : pairs) {
+            add(pair.getKey(), pair.getValue());
+        }
+    }
+
+    public void clear() {
+        conflictingIds.clear();
+        pairCount = 0;
+    }
+
+    /**
+     * Returns the number of conflicting pairs.
+     */
+    public int size() {
+        return pairCount;
+    }
+
+    /**
+     * Returns the conflicting pairs with the shorter employee ID first, ordered by employee ID.
+     */
+    public List<Pair<EmployeeId, EmployeeId>> asPairs() {
+        List<Pair<EmployeeId, EmployeeId>> pairs = new ArrayList<>(pairCount);
+        for (Map.Entry<EmployeeId, Set<EmployeeId>> entry : conflictingIds.entrySet()) {
+            EmployeeId prefix = entry.getKey();
+            for (EmployeeId other : entry.getValue()) {
+                if (prefix.isPrefixOf(other)) {
+                    pairs.add(new Pair<>(prefix, other));
+                }
+            }
+        }
+        pairs.sort(Comparator.comparing((Pair<EmployeeId, EmployeeId> pair) -> pair.getKey().value)
+                .thenComparing(pair -> pair.getValue().value));
+        return pairs;
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the outcome of resolving an employee ID prefix against the employees in the address book.
+ * A prefix either matches no employee, exactly one employee, or is ambiguous because it matches several.
+ */
+public class EmployeeIdPrefixMatch {
+
+    private static final EmployeeIdPrefixMatch NONE = new EmployeeIdPrefixMatch(null, 0);
+
+    private final Employee employee;
+    private final int matchCount;
+
+    private EmployeeIdPrefixMatch(Employee employee, int matchCount) {
+        this.employee = employee;
+        this.matchCount = matchCount;
+    }
+
+    /**
+     * Returns a match signifying that no employee has an ID starting with the prefix.
+     */
+    public static EmployeeIdPrefixMatch none() {
+        return NONE;
+    }
+
+    /**
+     * Returns a match signifying that {@code employee} is the only employee whose ID starts with the prefix.
+     */
+    public static EmployeeIdPrefixMatch unique(Employee employee) {
+        requireNonNull(employee);
+        return new EmployeeIdPrefixMatch(employee, 1);
+    }
+
+    /**
+     * Returns a match signifying that {@code matchCount} employees have an ID starting with the prefix.
+     */
+    public static EmployeeIdPrefixMatch ambiguous(int matchCount) {
+        assert matchCount > 1 : "An ambiguous match must cover more than one employee";
+        return new EmployeeIdPrefixMatch(null, matchCount);
+    }
+
+    public boolean isNone() {
+        return matchCount == 0;
+    }
+
+    public boolean isUnique() {
+        return matchCount == 1;
+    }
+
+    public boolean isAmbiguous() {
+        return matchCount > 1;
+    }
+
+    /**
+     * Returns the number of employees whose ID starts with the prefix.
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * Returns the matched employee if the prefix resolved to exactly one employee.
+     */
+    public Optional<Employee> getEmployee() {
+        return Optional.ofNullable(employee);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EmployeeIdPrefixMatch)) {
+            return false;
+        }
+
+        EmployeeIdPrefixMatch otherMatch = (EmployeeIdPrefixMatch) other;
+        return matchCount == otherMatch.matchCount
+                && Objects.equals(employee, otherMatch.employee);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(employee, matchCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("matchCount", matchCount)
+                .add("employee", employee)
+                .toString();
+    }
+}
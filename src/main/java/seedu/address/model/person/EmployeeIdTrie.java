@@ -0,0 +1,336 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A compressed (radix) trie of employees keyed by the value of their {@code EmployeeId}.
+ * Each node keeps the number of employees stored in its subtree, so resolving a prefix costs
+ * O(prefix length) to locate the subtree plus O(number of matches) to list them.
+ *
+ * The trie does not enforce uniqueness; inserting an employee ID that is already present
+ * replaces the employee stored against it.
+ */
+class EmployeeIdTrie {
+
+    private final Node root = new Node("");
+
+    /**
+     * Inserts {@code employee} keyed by its employee ID, replacing any employee stored against the same ID.
+     */
+    public void put(Employee employee) {
+        requireNonNull(employee);
+        put(root, employee.getEmployeeId().value, employee);
+    }
+
+    /**
+     * Removes the employee stored against {@code employeeId}.
+     *
+     * @return the removed employee, or {@code null} if no employee was stored against {@code employeeId}.
+     */
+    public Employee remove(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return remove(root, employeeId.value);
+    }
+
+    /**
+     * Removes all employees from the trie.
+     */
+    public void clear() {
+        root.children.clear();
+        root.employee = null;
+        root.size = 0;
+    }
+
+    /**
+     * Returns the number of employees in the trie.
+     */
+    public int size() {
+        return root.size;
+    }
+
+    /**
+     * Returns the employee stored against exactly {@code employeeId}, or {@code null} if there is none.
+     */
+    public Employee get(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        String key = employeeId.value;
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            Node child = node.children.get(key.charAt(offset));
+            if (child == null || !key.startsWith(child.label, offset)) {
+                return null;
+            }
+            offset += child.label.length();
+            node = child;
+        }
+        return node.employee;
+    }
+
+    /**
+     * Resolves {@code prefix} to none, exactly one or several employees whose IDs start with it,
+     * without materialising the matching employees.
+     */
+    public EmployeeIdPrefixMatch findByPrefix(EmployeeId prefix) {
+        requireNonNull(prefix);
+        Node subtree = findSubtree(prefix.value);
+        if (subtree == null || subtree.size == 0) {
+            return EmployeeIdPrefixMatch.none();
+        }
+        if (subtree.size > 1) {
+            return EmployeeIdPrefixMatch.ambiguous(subtree.size);
+        }
+
+        // A subtree holding a single employee is a chain of nodes ending at that employee.
+        Node node = subtree;
+        while (node.employee == null) {
+            node = node.children.values().iterator().next();
+        }
+        return EmployeeIdPrefixMatch.unique(node.employee);
+    }
+
+    /**
+     * Returns all employees whose IDs start with {@code prefix}, in lexicographic order of their IDs.
+     */
+    public List<Employee> getAllWithPrefix(EmployeeId prefix) {
+        requireNonNull(prefix);
+        Node subtree = findSubtree(prefix.value);
+        if (subtree == null) {
+            return new ArrayList<>();
+        }
+        List<Employee> matches = new ArrayList<>(subtree.size);
+        collect(subtree, matches);
+        return matches;
+    }
+
+    /**
+     * Returns all employees whose IDs have a prefix conflict with {@code employeeId}, that is, IDs that are
+     * a prefix of {@code employeeId} or that start with it. An employee stored against exactly
+     * {@code employeeId} is included, matching {@link EmployeeId#hasPrefixConflict(EmployeeId)}.
+     */
+    public List<Employee> getAllConflictingWith(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        String key = employeeId.value;
+        List<Employee> conflicts = new ArrayList<>();
+
+        // Employees stored on the path to the key have IDs that are proper prefixes of it.
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            if (node.employee != null) {
+                conflicts.add(node.employee);
+            }
+            Node child = node.children.get(key.charAt(offset));
+            if (child == null) {
+                return conflicts;
+            }
+            int common = commonPrefixLength(child.label, key, offset);
+            if (offset + common == key.length()) {
+                // Every employee below this child has an ID starting with the key.
+                collect(child, conflicts);
+                return conflicts;
+            }
+            if (common < child.label.length()) {
+                return conflicts;
+            }
+            offset += common;
+            node = child;
+        }
+        collect(node, conflicts);
+        return conflicts;
+    }
+
+    /**
+     * Returns true if any employee ID in the trie has a prefix conflict with {@code employeeId}.
+     * Unlike {@link #getAllConflictingWith(EmployeeId)}, this stops at the first conflict found.
+     */
+    public boolean hasConflict(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return countConflicts(employeeId.value, 1) > 0;
+    }
+
+    /**
+     * Returns true if any employee ID in the trie other than {@code toIgnore} has a prefix conflict
+     * with {@code employeeId}.
+     */
+    public boolean hasConflictIgnoring(EmployeeId employeeId, EmployeeId toIgnore) {
+        requireNonNull(employeeId);
+        requireNonNull(toIgnore);
+        boolean isIgnoredConflicting = toIgnore.hasPrefixConflict(employeeId) && get(toIgnore) != null;
+        int limit = isIgnoredConflicting ? 2 : 1;
+        return countConflicts(employeeId.value, limit) >= limit;
+    }
+
+    /**
+     * Counts the employees whose IDs have a prefix conflict with {@code key}, stopping once {@code limit}
+     * is reached. Only the employees on the path to the key are visited; the employees below it are
+     * counted through the subtree size of the node where the key ends.
+     */
+    private int countConflicts(String key, int limit) {
+        int count = 0;
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            if (node.employee != null && ++count >= limit) {
+                return count;
+            }
+            Node child = node.children.get(key.charAt(offset));
+            if (child == null) {
+                return count;
+            }
+            int common = commonPrefixLength(child.label, key, offset);
+            if (offset + common == key.length()) {
+                return count + child.size;
+            }
+            if (common < child.label.length()) {
+                return count;
+            }
+            offset += common;
+            node = child;
+        }
+        return count + node.size;
+    }
+
+    /**
+     * Returns the node whose subtree holds exactly the keys starting with {@code prefix},
+     * or {@code null} if no key starts with it.
+     */
+    private Node findSubtree(String prefix) {
+        Node node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(offset));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefixLength(child.label, prefix, offset);
+            if (offset + common == prefix.length()) {
+                // The prefix ends on this edge, so every key below the child matches.
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            offset += common;
+            node = child;
+        }
+        return node;
+    }
+
+    private static void collect(Node node, List<Employee> matches) {
+        if (node.employee != null) {
+            matches.add(node.employee);
+        }
+        for (Node child : node.children.values()) {
+            collect(child, matches);
+        }
+    }
+
+    /**
+     * Inserts {@code employee} against the remainder of {@code key} beneath {@code node}.
+     *
+     * @return true if a new key was added, false if an existing key had its employee replaced.
+     */
+    private static boolean put(Node node, String key, Employee employee) {
+        if (key.isEmpty()) {
+            boolean isNewKey = node.employee == null;
+            node.employee = employee;
+            if (isNewKey) {
+                node.size++;
+            }
+            return isNewKey;
+        }
+
+        Node child = node.children.get(key.charAt(0));
+        if (child == null) {
+            Node leaf = new Node(key);
+            leaf.employee = employee;
+            leaf.size = 1;
+            node.children.put(key.charAt(0), leaf);
+            node.size++;
+            return true;
+        }
+
+        int common = commonPrefixLength(child.label, key, 0);
+        if (common < child.label.length()) {
+            // Split the edge so that the shared part of the label becomes its own node.
+            Node middle = new Node(child.label.substring(0, common));
+            child.label = child.label.substring(common);
+            middle.children.put(child.label.charAt(0), child);
+            middle.size = child.size;
+            node.children.put(middle.label.charAt(0), middle);
+            child = middle;
+        }
+
+        boolean isNewKey = put(child, key.substring(common), employee);
+        if (isNewKey) {
+            node.size++;
+        }
+        return isNewKey;
+    }
+
+    /**
+     * Removes the remainder of {@code key} beneath {@code node}, pruning and merging emptied nodes.
+     *
+     * @return the removed employee, or {@code null} if the key was absent.
+     */
+    private static Employee remove(Node node, String key) {
+        if (key.isEmpty()) {
+            Employee removed = node.employee;
+            if (removed != null) {
+                node.employee = null;
+                node.size--;
+            }
+            return removed;
+        }
+
+        Node child = node.children.get(key.charAt(0));
+        if (child == null || !key.startsWith(child.label)) {
+            return null;
+        }
+
+        Employee removed = remove(child, key.substring(child.label.length()));
+        if (removed == null) {
+            return null;
+        }
+        node.size--;
+
+        if (child.size == 0) {
+            node.children.remove(child.label.charAt(0));
+        } else if (child.employee == null && child.children.size() == 1) {
+            // Fold a pass-through node into its only child to keep the trie compressed.
+            Node grandchild = child.children.values().iterator().next();
+            grandchild.label = child.label + grandchild.label;
+            node.children.put(grandchild.label.charAt(0), grandchild);
+        }
+        return removed;
+    }
+
+    private static int commonPrefixLength(String label, String key, int keyOffset) {
+        int max = Math.min(label.length(), key.length() - keyOffset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(keyOffset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * A node of the trie. The label is the part of the key on the edge leading into this node.
+     */
+    private static class Node {
+        private String label;
+        private final Map<Character, Node> children = new TreeMap<>();
+        private Employee employee;
+        private int size;
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+}
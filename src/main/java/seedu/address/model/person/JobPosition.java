@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Employee's job position in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidJobPosition(String)}
@@ -17,6 +19,7 @@ public class JobPosition {
      * This regex also allows for periods and apostrophes.
      */
     public static final String VALIDATION_REGEX = "^[\\p{L}\\p{N} .\\-']+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -35,7 +38,7 @@ public class JobPosition {
      * Returns true if a given string is a valid job position.
      */
     public static boolean isValidJobPosition(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
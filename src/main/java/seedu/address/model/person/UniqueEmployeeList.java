@@ -5,16 +5,23 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.util.Pair;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.EmployeeNotFoundException;
+import seedu.address.model.reminder.AnniversaryCalendar;
+import seedu.address.model.reminder.Reminder;
 import seedu.address.model.util.EmployeeIdPrefixValidationUtils;
 
 /**
@@ -35,43 +42,79 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     private final ObservableList<Employee> internalList = FXCollections.observableArrayList();
     private final ObservableList<Employee> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<EmployeeId, Integer> positions = new HashMap<>();
+    private final EmployeeIdTrie employeeIdIndex = new EmployeeIdTrie();
+    private final EmployeeIdPrefixConflicts prefixConflicts = new EmployeeIdPrefixConflicts();
+    private final Map<EmployeeDetails, List<Employee>> employeesByDetails = new LinkedHashMap<>();
+    private final AnniversaryCalendar anniversaryCalendar = new AnniversaryCalendar();
+
+    /**
+     * The date for which the list is known to be sorted by upcoming date, or null if it may be unsorted.
+     * Adding or editing an employee can break the order, so this is reset whenever an employee is indexed;
+     * removing an employee keeps the rest in order.
+     */
+    private LocalDate sortedByUpcomingDateOn;
+
+    /** Incremented on every modification of the list, before listeners of the list are notified. */
+    private long version;
 
     /**
      * Returns true if the list contains an equivalent employee as the given argument.
      */
     public boolean contains(Employee toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEmployee);
+        return positions.containsKey(toCheck.getEmployeeId());
     }
 
     /**
-     * Sorts the list of persons by their next upcoming date (birthday or work anniversary).
+     * Sorts the list of persons by their next upcoming date (birthday or work anniversary) from {@code today}.
      * - Persons with the nearest upcoming date will appear first.
      * - Persons without a birthday or anniversary will be placed at the end of the list.
+     * - Persons with the same upcoming date keep their relative order.
+     *
+     * Each person's upcoming date is computed once and packed with their position into a single {@code long}
+     * key, so the sort runs over primitive keys. Sorting again for the same {@code today} without modifying
+     * the list in between does nothing.
      */
-    public void sortByUpcomingDate() {
-        List<Employee> sortedList = internalList.stream()
-                .sorted(Comparator
-                        .comparing(Employee::getNextUpcomingDate,
-                                Comparator.nullsLast(Comparator.naturalOrder()))
-                )
-                .collect(Collectors.toList());
+    public void sortByUpcomingDate(LocalDate today) {
+        requireNonNull(today);
+        if (today.equals(sortedByUpcomingDateOn)) {
+            return;
+        }
+
+        int size = internalList.size();
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            LocalDate nextDate = internalList.get(i).getNextUpcomingDate(today);
+            int epochDay = nextDate == null ? Integer.MAX_VALUE : Math.toIntExact(nextDate.toEpochDay());
+            // The position in the low bits breaks ties in the original order.
+            keys[i] = ((long) epochDay << Integer.SIZE) | i;
+        }
+        Arrays.sort(keys);
+
+        Employee[] sortedEmployees = new Employee[size];
+        for (int i = 0; i < size; i++) {
+            sortedEmployees[i] = internalList.get((int) keys[i]);
+        }
 
         // Update the list after sorting
-        internalList.setAll(sortedList);
+        version++;
+        internalList.setAll(sortedEmployees);
+        reindexPositionsFrom(0);
+        sortedByUpcomingDateOn = today;
     }
     /**
      * Calculates the number of days until the next occurrence of a birthday.
      *
      * @param birthday The date of the birthday.
+     * @param today The date to count from.
      * @return Number of days until the next birthday, or {@code null} if the birthday is {@code null}.
      */
-    private Integer daysUntilNextBirthday(LocalDate birthday) {
+    private Integer daysUntilNextBirthday(LocalDate birthday, LocalDate today) {
         if (birthday == null) {
             return null;
         }
 
-        LocalDate today = LocalDate.now();
         LocalDate nextBirthday = birthday.withYear(today.getYear());
 
         // If the birthday has already passed this year, adjust to next year
@@ -92,7 +135,44 @@ public class UniqueEmployeeList implements Iterable<Employee> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getEmployeeId(), internalList.size());
+        version++;
         internalList.add(toAdd);
+        indexEmployee(toAdd);
+    }
+
+    /**
+     * Inserts a employee into the list at {@code index}, shifting the employees after it.
+     * The employee must not already exist in the list.
+     */
+    public void add(int index, Employee toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        version++;
+        internalList.add(index, toAdd);
+        reindexPositionsFrom(index);
+        indexEmployee(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order, as a single change of the list.
+     * None of the employees may already exist in the list or be the same as one another.
+     */
+    public void addAll(List<Employee> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<EmployeeId, Integer> addedPositions = new HashMap<>(toAdd.size() * 2);
+        int index = internalList.size();
+        for (Employee employee : toAdd) {
+            if (contains(employee) || addedPositions.put(employee.getEmployeeId(), index++) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        positions.putAll(addedPositions);
+        version++;
+        internalList.addAll(toAdd);
+        toAdd.forEach(this::indexEmployee);
     }
 
     /**
@@ -103,7 +183,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     public void setPerson(Employee target, Employee editedEmployee) {
         requireAllNonNull(target, editedEmployee);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EmployeeNotFoundException();
         }
@@ -112,7 +192,12 @@ public class UniqueEmployeeList implements Iterable<Employee> {
             throw new DuplicatePersonException();
         }
 
+        version++;
         internalList.set(index, editedEmployee);
+        positions.remove(target.getEmployeeId());
+        positions.put(editedEmployee.getEmployeeId(), index);
+        unindexEmployee(target);
+        indexEmployee(editedEmployee);
     }
 
     /**
@@ -121,14 +206,24 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public void remove(Employee toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EmployeeNotFoundException();
         }
+        version++;
+        internalList.remove(index);
+        positions.remove(toRemove.getEmployeeId());
+        reindexPositionsFrom(index);
+        unindexEmployee(toRemove);
     }
 
     public void setPersons(UniqueEmployeeList replacement) {
         requireNonNull(replacement);
+        version++;
         internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        rebuildIndexes();
     }
 
     /**
@@ -137,10 +232,135 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public void setPersons(List<Employee> employees) {
         requireAllNonNull(employees);
-        if (!personsAreUnique(employees)) {
+        Map<EmployeeId, Integer> newPositions = indexPositions(employees);
+        if (newPositions == null) {
             throw new DuplicatePersonException();
         }
+        version++;
         internalList.setAll(employees);
+        positions.clear();
+        positions.putAll(newPositions);
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the position of the employee equal to {@code employee}, or -1 if there is no such employee.
+     */
+    private int indexOf(Employee employee) {
+        Integer index = positions.get(employee.getEmployeeId());
+        if (index == null || !internalList.get(index).equals(employee)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Records the positions of all employees from {@code fromIndex} onwards, after they have shifted.
+     */
+    private void reindexPositionsFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getEmployeeId(), i);
+        }
+    }
+
+    private void indexEmployee(Employee employee) {
+        sortedByUpcomingDateOn = null;
+        employeeIdIndex.put(employee);
+        prefixConflicts.addAll(employee.getEmployeeId(),
+                employeeIdIndex.getAllConflictingWith(employee.getEmployeeId()));
+        indexDetails(employee);
+        anniversaryCalendar.add(employee);
+    }
+
+    private void unindexEmployee(Employee employee) {
+        employeeIdIndex.remove(employee.getEmployeeId());
+        prefixConflicts.removeAll(employee.getEmployeeId());
+        anniversaryCalendar.remove(employee.getEmployeeId());
+
+        EmployeeDetails details = new EmployeeDetails(employee);
+        List<Employee> sameDetails = employeesByDetails.get(details);
+        sameDetails.remove(employee);
+        if (sameDetails.isEmpty()) {
+            employeesByDetails.remove(details);
+        }
+    }
+
+    private void indexDetails(Employee employee) {
+        employeesByDetails.computeIfAbsent(new EmployeeDetails(employee), details -> new ArrayList<>(1))
+                .add(employee);
+    }
+
+    private void rebuildIndexes() {
+        sortedByUpcomingDateOn = null;
+        employeeIdIndex.clear();
+        internalList.forEach(employeeIdIndex::put);
+        prefixConflicts.setAll(EmployeeIdPrefixValidationUtils.getPrefixConflictingPairs(internalList));
+        employeesByDetails.clear();
+        internalList.forEach(this::indexDetails);
+        anniversaryCalendar.clear();
+        internalList.forEach(anniversaryCalendar::add);
+    }
+
+    /**
+     * Resolves {@code employeeIdPrefix} to the employees whose IDs start with it.
+     * Runs in time proportional to the prefix length, regardless of the number of employees.
+     */
+    public EmployeeIdPrefixMatch findByEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return employeeIdIndex.findByPrefix(employeeIdPrefix);
+    }
+
+    /**
+     * Returns all employees whose IDs start with {@code employeeIdPrefix}, ordered by employee ID.
+     */
+    public List<Employee> getEmployeesWithIdPrefix(EmployeeId employeeIdPrefix) {
+        requireNonNull(employeeIdPrefix);
+        return employeeIdIndex.getAllWithPrefix(employeeIdPrefix);
+    }
+
+    /**
+     * Returns reminders for all anniversaries whose next occurrence is within {@code daysRange} days of
+     * {@code today}, ordered by date and then by the position of the employee in this list.
+     * Only the calendar days in the range are examined, so the cost depends on the number of reminders
+     * rather than the number of employees.
+     */
+    public List<Reminder> getRemindersWithin(LocalDate today, int daysRange) {
+        requireNonNull(today);
+        return anniversaryCalendar.getRemindersWithin(today, daysRange,
+                employee -> positions.get(employee.getEmployeeId()));
+    }
+
+    /**
+     * Returns reminders for the anniversaries of the employee with {@code employeeId} whose next occurrence is
+     * within {@code daysRange} days of {@code today}, in chronological order.
+     */
+    public List<Reminder> getRemindersWithin(EmployeeId employeeId, LocalDate today, int daysRange) {
+        requireAllNonNull(employeeId, today);
+        return anniversaryCalendar.getRemindersWithin(employeeId, today, daysRange);
+    }
+
+    /**
+     * Returns the employee with exactly {@code employeeId}, found through the index of positions.
+     */
+    public Optional<Employee> getByEmployeeId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        Integer index = positions.get(employeeId);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the position in this list of the employee with {@code employeeId}, or -1 if there is no such employee.
+     */
+    public int positionOf(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return positions.getOrDefault(employeeId, -1);
+    }
+
+    /**
+     * Returns a number that changes whenever the list is modified.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -181,17 +401,17 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     }
 
     /**
-     * Returns true if {@code employees} contains only unique employees.
+     * Returns the position of each employee in {@code employees} keyed by employee ID,
+     * or {@code null} if {@code employees} does not contain only unique employees.
      */
-    private boolean personsAreUnique(List<Employee> employees) {
-        for (int i = 0; i < employees.size() - 1; i++) {
-            for (int j = i + 1; j < employees.size(); j++) {
-                if (employees.get(i).isSameEmployee(employees.get(j))) {
-                    return false;
-                }
+    private static Map<EmployeeId, Integer> indexPositions(List<Employee> employees) {
+        Map<EmployeeId, Integer> positions = new HashMap<>(employees.size() * 2);
+        for (int i = 0; i < employees.size(); i++) {
+            if (positions.put(employees.get(i).getEmployeeId(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return positions;
     }
 
     /**
@@ -199,7 +419,15 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      * @return list of pairs of employee IDs with prefix conflicts
      */
     public List<Pair<EmployeeId, EmployeeId>> getPrefixConflictingPairs() {
-        return EmployeeIdPrefixValidationUtils.getPrefixConflictingPairs(internalList);
+        return prefixConflicts.asPairs();
+    }
+
+    /**
+     * Returns the number of pairs of employee IDs that have prefix conflicts.
+     * The conflicts are maintained as employees are added, edited and removed, so this is a constant time read.
+     */
+    public int getPrefixConflictCount() {
+        return prefixConflicts.size();
     }
 
     /**
@@ -209,7 +437,22 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public boolean hasDuplicatePersonDetails(Employee toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(checkPerson -> checkPerson.hasSameDetails(toCheck));
+        return employeesByDetails.containsKey(new EmployeeDetails(toCheck));
+    }
+
+    /**
+     * Returns every group of two or more employees that have the same details, as defined by
+     * {@code Employee#hasSameDetails(Employee)}. Groups are ordered by when their details first appeared,
+     * and employees within a group are in the order they were added.
+     */
+    public List<List<Employee>> getDuplicateDetailGroups() {
+        List<List<Employee>> groups = new ArrayList<>();
+        for (List<Employee> sameDetails : employeesByDetails.values()) {
+            if (sameDetails.size() > 1) {
+                groups.add(Collections.unmodifiableList(new ArrayList<>(sameDetails)));
+            }
+        }
+        return groups;
     }
     /**
      * Checks if there is an employee ID in the list that has a prefix conflict
@@ -222,7 +465,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
      */
     public boolean hasEmployeeIdPrefixConflict(EmployeeId employeeId) {
         requireNonNull(employeeId);
-        return internalList.stream().anyMatch(person -> person.getEmployeeId().hasPrefixConflict(employeeId));
+        return employeeIdIndex.hasConflict(employeeId);
     }
 
     /**
@@ -237,9 +480,7 @@ public class UniqueEmployeeList implements Iterable<Employee> {
     public boolean hasEmployeeIdPrefixConflictIgnoringSpecific(EmployeeId employeeId, EmployeeId toIgnore) {
         requireNonNull(employeeId);
         requireNonNull(toIgnore);
-        return internalList.stream()
-                .filter(person -> !person.getEmployeeId().equals(toIgnore))
-                .anyMatch(person -> person.getEmployeeId().hasPrefixConflict(employeeId));
+        return employeeIdIndex.hasConflictIgnoring(employeeId, toIgnore);
     }
 
 
@@ -0,0 +1,261 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * An index of the anniversaries of all employees, bucketed by the month and day on which they recur.
+ * There is one bucket for each of the 366 days of a leap year, so finding the anniversaries that fall within
+ * the next few days only looks at the buckets of those days, regardless of the number of employees.
+ */
+public class AnniversaryCalendar {
+
+    /** The number of distinct month-day combinations, including Feb 29. */
+    private static final int BUCKET_COUNT = 366;
+
+    /** A leap year used to map a month and day to a bucket. */
+    private static final int REFERENCE_LEAP_YEAR = 2000;
+
+    private final List<Set<Entry>> buckets = new ArrayList<>(BUCKET_COUNT);
+    private final Map<EmployeeId, List<Entry>> entriesByEmployee = new HashMap<>();
+
+    /**
+     * Creates an empty calendar.
+     */
+    public AnniversaryCalendar() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.add(new LinkedHashSet<>());
+        }
+    }
+
+    /**
+     * Adds the anniversaries of {@code employee} to the calendar.
+     * Any anniversaries previously added for an employee with the same employee ID are replaced.
+     */
+    public void add(Employee employee) {
+        requireNonNull(employee);
+        remove(employee.getEmployeeId());
+
+        List<Anniversary> anniversaries = employee.getAnniversaries();
+        List<Entry> entries = new ArrayList<>(anniversaries.size());
+        for (int i = 0; i < anniversaries.size(); i++) {
+            Anniversary anniversary = anniversaries.get(i);
+            if (anniversary.getDate() == null) {
+                continue;
+            }
+            Entry entry = new Entry(employee, anniversary, i);
+            buckets.get(bucketOf(anniversary.getDate().getMonthValue(), anniversary.getDate().getDayOfMonth()))
+                    .add(entry);
+            entries.add(entry);
+        }
+        if (!entries.isEmpty()) {
+            entriesByEmployee.put(employee.getEmployeeId(), entries);
+        }
+    }
+
+    /**
+     * Removes the anniversaries that were added for the employee with {@code employeeId}.
+     * The anniversaries removed are the ones indexed when the employee was added, even if the employee's
+     * anniversary list has since been modified.
+     */
+    public void remove(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        List<Entry> entries = entriesByEmployee.remove(employeeId);
+        if (entries == null) {
+            return;
+        }
+        for (Entry entry : entries) {
+            LocalDate date = entry.anniversary.getDate();
+            buckets.get(bucketOf(date.getMonthValue(), date.getDayOfMonth())).remove(entry);
+        }
+    }
+
+    /**
+     * Removes all anniversaries from the calendar.
+     */
+    public void clear() {
+        buckets.forEach(Set::clear);
+        entriesByEmployee.clear();
+    }
+
+    /**
+     * Returns reminders for every anniversary whose next occurrence is between {@code today} and
+     * {@code daysRange} days after it, inclusive.
+     * Reminders are ordered by date; reminders on the same date are ordered by {@code employeeOrder} and then
+     * by the position of the anniversary in the employee's anniversary list.
+     */
+    public List<Reminder> getRemindersWithin(LocalDate today, int daysRange, ToIntFunction<Employee> employeeOrder) {
+        requireNonNull(today);
+        requireNonNull(employeeOrder);
+
+        List<Occurrence> occurrences = new ArrayList<>();
+        boolean[] isVisited = new boolean[BUCKET_COUNT];
+        int daysToScan = Math.min(daysRange, BUCKET_COUNT);
+        for (int offset = 0; offset <= daysToScan; offset++) {
+            LocalDate day = today.plusDays(offset);
+            collectOccurrences(bucketOf(day.getMonthValue(), day.getDayOfMonth()), today, daysRange,
+                    isVisited, occurrences);
+            if (day.getMonthValue() == 2 && day.getDayOfMonth() == 28 && !day.isLeapYear()) {
+                // Feb 29 anniversaries fall back to Feb 28 in common years.
+                collectOccurrences(bucketOf(2, 29), today, daysRange, isVisited, occurrences);
+            }
+        }
+
+        occurrences.sort(Comparator.comparing((Occurrence occurrence) -> occurrence.date)
+                .thenComparingInt(occurrence -> employeeOrder.applyAsInt(occurrence.entry.employee))
+                .thenComparingInt(occurrence -> occurrence.entry.anniversaryIndex));
+        return toReminders(occurrences, today);
+    }
+
+    /**
+     * Returns reminders for the anniversaries added for the employee with {@code employeeId} whose next
+     * occurrence is between {@code today} and {@code daysRange} days after it, inclusive.
+     * Reminders are ordered by date and then by the position of the anniversary in the employee's anniversary list.
+     */
+    public List<Reminder> getRemindersWithin(EmployeeId employeeId, LocalDate today, int daysRange) {
+        requireAllNonNull(employeeId, today);
+
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (Entry entry : entriesByEmployee.getOrDefault(employeeId, List.of())) {
+            addIfWithinRange(entry, today, daysRange, occurrences);
+        }
+        occurrences.sort(Comparator.comparing((Occurrence occurrence) -> occurrence.date)
+                .thenComparingInt(occurrence -> occurrence.entry.anniversaryIndex));
+        return toReminders(occurrences, today);
+    }
+
+    private void collectOccurrences(int bucket, LocalDate today, int daysRange, boolean[] isVisited,
+            List<Occurrence> occurrences) {
+        if (isVisited[bucket]) {
+            return;
+        }
+        isVisited[bucket] = true;
+
+        for (Entry entry : buckets.get(bucket)) {
+            addIfWithinRange(entry, today, daysRange, occurrences);
+        }
+    }
+
+    private static void addIfWithinRange(Entry entry, LocalDate today, int daysRange, List<Occurrence> occurrences) {
+        LocalDate nextDate = getNextOccurrence(entry.anniversary.getDate(), today);
+        if (nextDate == null) {
+            return;
+        }
+        long daysLeft = ChronoUnit.DAYS.between(today, nextDate);
+        if (daysLeft >= 0 && daysLeft <= daysRange) {
+            occurrences.add(new Occurrence(entry, nextDate));
+        }
+    }
+
+    private static List<Reminder> toReminders(List<Occurrence> occurrences, LocalDate today) {
+        List<Reminder> reminders = new ArrayList<>(occurrences.size());
+        for (Occurrence occurrence : occurrences) {
+            Anniversary anniversary = occurrence.entry.anniversary;
+            reminders.add(new Reminder(occurrence.entry.employee, occurrence.date, anniversary.getType(),
+                    anniversary.getDescription(), today));
+        }
+        return reminders;
+    }
+
+    private static int bucketOf(int month, int day) {
+        return LocalDate.of(REFERENCE_LEAP_YEAR, month, day).getDayOfYear() - 1;
+    }
+
+    //@@author cscms03
+    /**
+     * Returns the next occurrence of a given date (month and day),
+     * assuming it's a recurring annual event like a birthday or anniversary.
+     * If the input date is in the future (including the year), it returns it as-is.
+     * If the date has already passed this year, it returns the same month/day next year.
+     *
+     * @param date The anniversary's original date to base the recurrence on
+     * @param today The date to find the next occurrence from
+     * @return A {@link LocalDate} representing the next occurrence of the anniversary (preserving month and day) / null
+     */
+    public static LocalDate getNextOccurrence(LocalDate date, LocalDate today) {
+        if (date == null) {
+            return null;
+        }
+
+        // If the original date is in the future (compared to today), return it directly
+        if (date.isAfter(today)) {
+            return date;
+        }
+
+        LocalDate candidate = safeDate(today.getYear(), date.getMonthValue(), date.getDayOfMonth());
+
+        if (candidate == null || candidate.isBefore(today)) {
+            candidate = safeDate(today.getYear() + 1, date.getMonthValue(), date.getDayOfMonth());
+        }
+
+        return candidate;
+    }
+
+    /**
+     * Returns a valid {@link LocalDate} for the given year, month, and day.
+     * Falls back to Feb 28 if the date is Feb 29 on a non-leap year.
+     * Asserts false and returns {@code null} for other invalid dates.
+     *
+     * @param year Year value.
+     * @param month Month value (1–12).
+     * @param day Day value (1–31).
+     * @return A valid {@code LocalDate}, fallback, or {@code null} if invalid.
+     */
+    private static LocalDate safeDate(int year, int month, int day) {
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            if (month == 2 && day == 29) {
+                return LocalDate.of(year, 2, 28); // fallback for leap day
+            }
+            assert false : String.format("Unexpected invalid date: %04d-%02d-%02d", year, month, day);
+            return null;
+        }
+    }
+    //@@author
+
+    /**
+     * An anniversary of an employee, placed in the bucket of the month and day it recurs on.
+     * Entries are compared by identity, so each one can be removed from its bucket in constant time.
+     */
+    private static class Entry {
+        private final Employee employee;
+        private final Anniversary anniversary;
+        private final int anniversaryIndex;
+
+        Entry(Employee employee, Anniversary anniversary, int anniversaryIndex) {
+            this.employee = employee;
+            this.anniversary = anniversary;
+            this.anniversaryIndex = anniversaryIndex;
+        }
+    }
+
+    /**
+     * An entry together with the date of its next occurrence.
+     */
+    private static class Occurrence {
+        private final Entry entry;
+        private final LocalDate date;
+
+        Occurrence(Entry entry, LocalDate date) {
+            this.entry = entry;
+            this.date = date;
+        }
+    }
+}
@@ -19,6 +19,7 @@ public class Reminder implements Comparable<Reminder> {
     private final LocalDate date;
     private final AnniversaryType type;
     private final String description;
+    private final long daysLeft;
 
     /**
      * Constructs a {@code Reminder}.
@@ -27,12 +28,14 @@ public class Reminder implements Comparable<Reminder> {
      * @param date        The upcoming date of the anniversary.
      * @param type        The type of the anniversary (e.g., Birthday, Work Anniversary).
      * @param description A short description for the anniversary.
+     * @param today       The date the reminder is created for, used to count the days left.
      */
-    public Reminder(Employee employee, LocalDate date, AnniversaryType type, String description) {
+    public Reminder(Employee employee, LocalDate date, AnniversaryType type, String description, LocalDate today) {
         this.employee = employee;
         this.date = date;
         this.type = type;
         this.description = description;
+        this.daysLeft = ChronoUnit.DAYS.between(today, date);
     }
 
     /**
@@ -64,12 +67,13 @@ public class Reminder implements Comparable<Reminder> {
     }
 
     /**
-     * Calculates how many days are left from today until this reminder's anniversary.
+     * Returns how many days are left until this reminder's anniversary, counted from the date the reminder
+     * was created for.
      *
      * @return Number of days remaining.
      */
     public long getDaysLeft() {
-        return ChronoUnit.DAYS.between(LocalDate.now(), date);
+        return daysLeft;
     }
 
     /**
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 import lombok.Getter;
 
 /**
@@ -15,6 +17,7 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS =
             "Tag names can contain letters, numbers, spaces, and these symbols: ! @ - '";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}!@\\-']+( [\\p{Alnum}!@\\-']+)*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String tagName;
 
@@ -33,7 +36,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
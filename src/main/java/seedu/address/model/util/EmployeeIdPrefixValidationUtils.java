@@ -1,6 +1,9 @@
 package seedu.address.model.util;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 
@@ -18,20 +21,33 @@ public class EmployeeIdPrefixValidationUtils {
 
     /**
      * Gets all pairs of employee IDs in the list that have prefix conflicts.
+     * Each pair holds the shorter employee ID (the prefix) first.
+     *
+     * The IDs are sorted so that every ID starting with a given prefix appears in one contiguous run right
+     * after that prefix. A single pass that keeps the chain of prefixes of the current ID on a stack then
+     * finds every conflict, which takes O(n log n) time plus the number of conflicts found.
+     *
      * @param employees the list of employees to check
      * @return list of conflicting pairs
      */
     public static List<Pair<EmployeeId, EmployeeId>> getPrefixConflictingPairs(List<Employee> employees) {
         Objects.requireNonNull(employees);
+        List<EmployeeId> sortedIds = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            sortedIds.add(employee.getEmployeeId());
+        }
+        sortedIds.sort(Comparator.comparing(employeeId -> employeeId.value));
+
         List<Pair<EmployeeId, EmployeeId>> conflicts = new ArrayList<>();
-        for (int i = 0; i < employees.size(); i++) {
-            EmployeeId id1 = employees.get(i).getEmployeeId();
-            for (int j = i + 1; j < employees.size(); j++) {
-                EmployeeId id2 = employees.get(j).getEmployeeId();
-                if (id1.hasPrefixConflict(id2)) {
-                    conflicts.add(new Pair<>(id1, id2));
-                }
+        Deque<EmployeeId> prefixChain = new ArrayDeque<>();
+        for (EmployeeId employeeId : sortedIds) {
+            while (!prefixChain.isEmpty() && !prefixChain.peek().isPrefixOf(employeeId)) {
+                prefixChain.pop();
+            }
+            for (EmployeeId prefix : prefixChain) {
+                conflicts.add(new Pair<>(prefix, employeeId));
             }
+            prefixChain.push(employeeId);
         }
         return conflicts;
     }
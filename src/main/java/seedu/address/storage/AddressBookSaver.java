@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread, so that the thread that modifies
+ * them does not wait for the disk.
+ * Each request takes a snapshot of the address book on the calling thread. A save starts once the group commit
+ * window after the first request has passed, and requests made until then, or while a save is running, are
+ * coalesced: only the latest snapshot is saved, so that rapid changes share one write to the disk.
+ */
+public class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+    private static final long STOP_TIMEOUT_SECONDS = 30;
+
+    private final AddressBookStorage storage;
+    private final long groupCommitWindowMillis;
+    private final Consumer<IOException> failureHandler;
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+
+    /**
+     * Creates a saver that saves to {@code storage} as soon as a save is requested, and passes the exceptions of
+     * failed saves to {@code failureHandler}, on the saving thread.
+     */
+    public AddressBookSaver(AddressBookStorage storage, Consumer<IOException> failureHandler) {
+        this(storage, 0, failureHandler);
+    }
+
+    /**
+     * Creates a saver that saves to {@code storage} {@code groupCommitWindowMillis} milliseconds after a save is
+     * requested, and passes the exceptions of failed saves to {@code failureHandler}, on the saving thread.
+     */
+    public AddressBookSaver(AddressBookStorage storage, long groupCommitWindowMillis,
+            Consumer<IOException> failureHandler) {
+        requireAllNonNull(storage, failureHandler);
+        checkArgument(groupCommitWindowMillis >= 0, "The group commit window must not be negative.");
+        this.storage = storage;
+        this.groupCommitWindowMillis = groupCommitWindowMillis;
+        this.failureHandler = failureHandler;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Saves still waiting for their window are made by stop() itself.
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Saves a snapshot of {@code addressBook} in the background.
+     * Must be called on the thread that modifies {@code addressBook}.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        ReadOnlyAddressBook snapshot = storage.snapshotAddressBook(addressBook);
+        // A save is only scheduled if none is pending; a pending save picks up the latest snapshot when it runs.
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.schedule(this::savePendingSnapshot, groupCommitWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void savePendingSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            // Already saved early by a flush or stop.
+            return;
+        }
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + e);
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Saves the latest requested snapshot without waiting for the group commit window, and waits until every save
+     * requested so far has finished.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::savePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Finishes every save requested so far, then stops the background thread.
+     * No more saves can be requested afterwards.
+     */
+    public void stop() {
+        executor.execute(this::savePendingSnapshot);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for the address book to be saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
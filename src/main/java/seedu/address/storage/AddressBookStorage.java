@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -17,6 +18,14 @@ public interface AddressBookStorage {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the paths of the files this storage keeps next to the data file at {@code filePath}, whether they
+     * exist or not.
+     */
+    default List<Path> getAuxiliaryFilePaths(Path filePath) {
+        return List.of();
+    }
+
     /**
      * Returns AddressBook data as a {@link ReadOnlyAddressBook}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -30,6 +39,13 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns a copy of {@code addressBook} that {@link #saveAddressBook(ReadOnlyAddressBook)} can save on another
+     * thread while {@code addressBook} keeps changing.
+     * Must be called on the thread that modifies {@code addressBook}.
+     */
+    ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook);
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
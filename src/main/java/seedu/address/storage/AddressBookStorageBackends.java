@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageBackend;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the {@code AddressBookStorage} of each {@link StorageBackend}, and moves address books between them.
+ */
+public class AddressBookStorageBackends {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookStorageBackends.class);
+
+    private AddressBookStorageBackends() {
+    }
+
+    /**
+     * Returns a storage that keeps the data file at {@code dataFilePath} the way {@code backend} does, with the
+     * settings of {@code config}. The {@link StorageBackend#DATABASE} backend keeps its database in a file of its
+     * own next to {@code dataFilePath}.
+     */
+    public static AddressBookStorage create(StorageBackend backend, Path dataFilePath, Config config) {
+        requireNonNull(backend);
+        requireNonNull(dataFilePath);
+        requireNonNull(config);
+
+        switch (backend) {
+
+        case JOURNALED:
+            return new JournaledAddressBookStorage(dataFilePath, config.getJournalCompactionThreshold());
+
+        case BINARY_SNAPSHOT:
+            return new BinarySnapshotAddressBookStorage(dataFilePath);
+
+        case DATABASE:
+            return new DatabaseAddressBookStorage(DatabaseAddressBookStorage.getDatabasePath(dataFilePath),
+                    config.getJournalCompactionThreshold());
+
+        default:
+            return new JsonAddressBookStorage(dataFilePath);
+        }
+    }
+
+    /**
+     * Reads the address book of {@code source} and saves it to {@code target}.
+     * The files that only {@code source} keeps next to its data file are deleted afterwards, so that they cannot be
+     * mistaken for changes made after the migration. The data file of {@code source} itself is kept.
+     *
+     * @return false if {@code source} has no address book to migrate.
+     * @throws DataLoadingException if the address book of {@code source} could not be read.
+     * @throws IOException if the address book could not be saved to {@code target}.
+     */
+    public static boolean migrate(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+
+        // Saving in full to the source first folds everything it keeps into the data file, so that the data file
+        // stays complete for either storage if the migration is interrupted.
+        source.saveAddressBook(source.snapshotAddressBook(addressBook.get()));
+        target.saveAddressBook(target.snapshotAddressBook(addressBook.get()));
+
+        Path sourceFilePath = source.getAddressBookFilePath();
+        Path targetFilePath = target.getAddressBookFilePath();
+        List<Path> targetAuxiliaryFilePaths = target.getAuxiliaryFilePaths(targetFilePath);
+        for (Path path : source.getAuxiliaryFilePaths(sourceFilePath)) {
+            if (!targetAuxiliaryFilePaths.contains(path)) {
+                Files.deleteIfExists(path);
+            }
+        }
+        logger.info("Migrated " + sourceFilePath + " to " + targetFilePath);
+        return true;
+    }
+}
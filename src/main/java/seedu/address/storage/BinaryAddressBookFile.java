@@ -0,0 +1,303 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.anniversary.AnniversaryType;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.JobPosition;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes binary snapshots of an address book, which load much faster than its json file.
+ * A snapshot records the size and the CRC32 checksum of the json file it was written with, and is only read back
+ * while the json file still matches them. The checksum catches edits that keep the size and the last modified time
+ * of the json file, which coarse timestamps and tools that preserve them make possible.
+ * Strings are stored as their UTF-8 length followed by their bytes. Tags, job positions and anniversary types are
+ * stored once in a dictionary and referred to by index, and dates are stored as epoch days.
+ * Snapshots are read into a heap buffer in one bulk read and decoded from it, instead of through a stream.
+ * The file is not memory-mapped, since a live mapping would stop the next save from replacing it on some platforms.
+ */
+class BinaryAddressBookFile {
+
+    public static final String MESSAGE_CORRUPTED_SNAPSHOT = "Binary snapshot is corrupted.";
+
+    private static final int MAGIC = 0x48524253; // "HRBS"
+    private static final int FORMAT_VERSION = 2;
+    private static final int NULL_LENGTH = -1;
+    private static final int NULL_INDEX = -1;
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+
+    private BinaryAddressBookFile() {
+    }
+
+    /**
+     * Writes a snapshot of {@code employees} to {@code snapshotPath}, replacing the file in one step.
+     *
+     * @param sourceSize the size of the json file holding the same employees.
+     * @param sourceChecksum the CRC32 checksum of the json file holding the same employees.
+     */
+    static void write(List<Employee> employees, long sourceSize, long sourceChecksum, Path snapshotPath)
+            throws IOException {
+        requireNonNull(employees);
+        requireNonNull(snapshotPath);
+
+        Dictionary dictionary = new Dictionary();
+        for (Employee employee : employees) {
+            dictionary.addEmployee(employee);
+        }
+
+        FileUtil.writeToFile(snapshotPath, outputStream -> {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeLong(sourceSize);
+            output.writeLong(sourceChecksum);
+            dictionary.writeTo(output);
+
+            output.writeInt(employees.size());
+            for (Employee employee : employees) {
+                writeEmployee(output, employee, dictionary);
+            }
+            output.flush();
+        });
+    }
+
+    private static void writeEmployee(DataOutputStream output, Employee employee, Dictionary dictionary)
+            throws IOException {
+        writeString(output, employee.getEmployeeId().value);
+        writeString(output, employee.getName().fullName);
+        writeString(output, employee.getPhone().value);
+        writeString(output, employee.getEmail().value);
+        output.writeInt(dictionary.indexOf(employee.getJobPosition().value));
+
+        output.writeInt(employee.getTags().size());
+        for (Tag tag : employee.getTags()) {
+            output.writeInt(dictionary.indexOf(tag.tagName));
+        }
+
+        output.writeInt(employee.getAnniversaries().size());
+        for (Anniversary anniversary : employee.getAnniversaries()) {
+            LocalDate date = anniversary.getDate();
+            output.writeInt(date == null ? NULL_DATE : Math.toIntExact(date.toEpochDay()));
+            output.writeInt(dictionary.indexOf(anniversary.getType()));
+            writeString(output, anniversary.getDescription());
+            writeString(output, anniversary.getName());
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads the snapshot at {@code snapshotPath}, or returns {@code Optional.empty()} if it is missing or was not
+     * written with a json file of the given size and CRC32 checksum.
+     *
+     * @throws IOException if the snapshot cannot be read.
+     * @throws IllegalValueException if the snapshot is corrupted or there were any data constraints violated.
+     */
+    static Optional<AddressBook> read(Path snapshotPath, long sourceSize, long sourceChecksum)
+            throws IOException, IllegalValueException {
+        requireNonNull(snapshotPath);
+        if (!Files.exists(snapshotPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer input = ByteBuffer.wrap(Files.readAllBytes(snapshotPath));
+            if (input.getInt() != MAGIC || input.getInt() != FORMAT_VERSION) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+            if (input.getLong() != sourceSize || input.getLong() != sourceChecksum) {
+                return Optional.empty();
+            }
+            return Optional.of(readAddressBook(input));
+        } catch (BufferUnderflowException e) {
+            // The snapshot ends before the records it declares.
+            throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT, e);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            // Thrown by the model for values that do not satisfy its constraints, and for bad dictionary indices.
+            throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT, e);
+        }
+    }
+
+    private static AddressBook readAddressBook(ByteBuffer input) throws IllegalValueException {
+        String[] strings = new String[readCount(input)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(input);
+        }
+        // Created on first use, since only some dictionary entries are valid tags or job positions.
+        Tag[] tags = new Tag[strings.length];
+        JobPosition[] jobPositions = new JobPosition[strings.length];
+        AnniversaryType[] anniversaryTypes = new AnniversaryType[readCount(input)];
+        for (int i = 0; i < anniversaryTypes.length; i++) {
+            String typeName = stringAt(strings, input.getInt());
+            String typeDescription = stringAt(strings, input.getInt());
+            anniversaryTypes[i] = new AnniversaryType(typeName, typeDescription);
+        }
+
+        int employeeCount = readCount(input);
+        List<Employee> employees = new ArrayList<>(employeeCount);
+        for (int i = 0; i < employeeCount; i++) {
+            employees.add(readEmployee(input, strings, tags, jobPositions, anniversaryTypes));
+        }
+
+        // Indexing all employees at once is much faster than adding them one by one.
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setEmployees(employees);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    private static Employee readEmployee(ByteBuffer input, String[] strings, Tag[] tags,
+            JobPosition[] jobPositions, AnniversaryType[] anniversaryTypes) throws IllegalValueException {
+        EmployeeId employeeId = new EmployeeId(requireValue(readString(input)));
+        Name name = new Name(requireValue(readString(input)));
+        Phone phone = new Phone(requireValue(readString(input)));
+        Email email = new Email(requireValue(readString(input)));
+        int jobPositionIndex = input.getInt();
+        if (jobPositions[jobPositionIndex] == null) {
+            jobPositions[jobPositionIndex] = new JobPosition(requireValue(strings[jobPositionIndex]));
+        }
+        JobPosition jobPosition = jobPositions[jobPositionIndex];
+
+        int tagCount = readCount(input);
+        Set<Tag> employeeTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = input.getInt();
+            if (tags[tagIndex] == null) {
+                tags[tagIndex] = new Tag(requireValue(strings[tagIndex]));
+            }
+            employeeTags.add(tags[tagIndex]);
+        }
+
+        int anniversaryCount = readCount(input);
+        List<Anniversary> anniversaries = new ArrayList<>(anniversaryCount);
+        for (int i = 0; i < anniversaryCount; i++) {
+            int epochDay = input.getInt();
+            LocalDate date = epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay);
+            int typeIndex = input.getInt();
+            AnniversaryType type = typeIndex == NULL_INDEX ? null : anniversaryTypes[typeIndex];
+            String description = readString(input);
+            String anniversaryName = readString(input);
+            anniversaries.add(new Anniversary(date, type, description, anniversaryName));
+        }
+        return new Employee(employeeId, name, phone, email, jobPosition, employeeTags, anniversaries);
+    }
+
+    private static String readString(ByteBuffer input) throws IllegalValueException {
+        int length = input.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > input.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+        }
+        byte[] bytes = new byte[length];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(ByteBuffer input) throws IllegalValueException {
+        // Every counted item takes at least one int, which also bounds the arrays allocated for a corrupted count.
+        int count = input.getInt();
+        if (count < 0 || count > input.remaining() / Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+        }
+        return count;
+    }
+
+    private static String stringAt(String[] strings, int index) {
+        return index == NULL_INDEX ? null : strings[index];
+    }
+
+    private static <T> T requireValue(T value) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_SNAPSHOT);
+        }
+        return value;
+    }
+
+    /**
+     * The strings and anniversary types shared by the employees of a snapshot, in the order they were first used.
+     */
+    private static class Dictionary {
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final Map<AnniversaryType, Integer> anniversaryTypes = new LinkedHashMap<>();
+
+        void addEmployee(Employee employee) {
+            addString(employee.getJobPosition().value);
+            for (Tag tag : employee.getTags()) {
+                addString(tag.tagName);
+            }
+            for (Anniversary anniversary : employee.getAnniversaries()) {
+                AnniversaryType type = anniversary.getType();
+                if (type != null && !anniversaryTypes.containsKey(type)) {
+                    addString(type.getName());
+                    addString(type.getDescription());
+                    anniversaryTypes.put(type, anniversaryTypes.size());
+                }
+            }
+        }
+
+        private void addString(String string) {
+            if (string != null) {
+                strings.putIfAbsent(string, strings.size());
+            }
+        }
+
+        int indexOf(String string) {
+            return string == null ? NULL_INDEX : strings.get(string);
+        }
+
+        int indexOf(AnniversaryType type) {
+            return type == null ? NULL_INDEX : anniversaryTypes.get(type);
+        }
+
+        void writeTo(DataOutputStream output) throws IOException {
+            output.writeInt(strings.size());
+            for (String string : strings.keySet()) {
+                writeString(output, string);
+            }
+            output.writeInt(anniversaryTypes.size());
+            for (AnniversaryType type : anniversaryTypes.keySet()) {
+                output.writeInt(indexOf(type.getName()));
+                output.writeInt(indexOf(type.getDescription()));
+            }
+        }
+    }
+}
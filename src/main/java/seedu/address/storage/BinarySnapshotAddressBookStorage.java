@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A {@code JsonAddressBookStorage} that also writes a binary snapshot next to every json file it saves, and reads
+ * the snapshot instead of the json file while it is up to date.
+ * The json file stays the data file that can be edited, imported and exported. The snapshot only speeds up
+ * loading, so failing to write or read it is logged and the json file is used instead.
+ */
+public class BinarySnapshotAddressBookStorage extends JsonAddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySnapshotAddressBookStorage.class);
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    public BinarySnapshotAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Returns the path of the binary snapshot of the json file at {@code filePath}.
+     */
+    public static Path getSnapshotPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_SUFFIX);
+    }
+
+    @Override
+    public List<Path> getAuxiliaryFilePaths(Path filePath) {
+        return List.of(getSnapshotPath(filePath));
+    }
+
+    /**
+     * Reads the binary snapshot of the json file at {@code filePath} if it was written with the current json file,
+     * or the json file otherwise.
+     *
+     * @param filePath location of the json file. Cannot be null.
+     * @throws DataLoadingException if loading the data from the json file failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<AddressBook> snapshot = readSnapshot(filePath);
+        if (snapshot.isPresent()) {
+            return Optional.of(snapshot.get());
+        }
+        return super.readAddressBook(filePath);
+    }
+
+    private Optional<AddressBook> readSnapshot(Path filePath) {
+        Path snapshotPath = getSnapshotPath(filePath);
+        try {
+            if (!Files.exists(filePath)) {
+                return Optional.empty();
+            }
+            Optional<AddressBook> snapshot = BinaryAddressBookFile.read(snapshotPath, Files.size(filePath),
+                    checksumOf(filePath));
+            if (snapshot.isPresent()) {
+                logger.info("Loaded binary snapshot " + snapshotPath);
+            }
+            return snapshot;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Ignoring unreadable binary snapshot " + snapshotPath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the file at {@code filePath}, read through a buffer of constant size.
+     */
+    static long checksumOf(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream input = new CheckedInputStream(Files.newInputStream(filePath), checksum)) {
+            input.transferTo(OutputStream.nullOutputStream());
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Saves {@code addressBook} to the json file at {@code filePath}, then writes its binary snapshot.
+     *
+     * @param filePath location of the json file. Cannot be null.
+     * @throws IOException if the json file could not be written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        // The checksum is taken from the bytes as they are written, so the json file is not read back for it.
+        long checksum = writeAddressBook(addressBook, filePath);
+
+        Path snapshotPath = getSnapshotPath(filePath);
+        try {
+            BinaryAddressBookFile.write(addressBook.getEmployeeList(), Files.size(filePath), checksum, snapshotPath);
+        } catch (IOException e) {
+            // A snapshot that is not updated no longer matches the json file, so it is not read.
+            logger.warning("Failed to write binary snapshot " + snapshotPath + ": " + e);
+        }
+    }
+
+}
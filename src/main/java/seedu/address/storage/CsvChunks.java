@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Finds the chunks of a CSV document that each hold whole records, so that the chunks can be parsed independently
+ * of one another. A chunk only ends after a line break that is outside a quoted section, so a record with line
+ * breaks in its quoted fields is never split. The quotes, commas and line breaks of CSV are single bytes in UTF-8
+ * that never occur within the encoding of other characters, so the bytes are scanned without being decoded.
+ * The document is read one small buffer at a time, and only the offsets of the chunks are kept.
+ */
+class CsvChunks {
+
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final ReadableByteChannel csvChannel;
+    private final int chunkSize;
+    private final ByteBuffer scanBuffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE).flip();
+    private long offset;
+    private long chunkStart;
+    private boolean isInQuotes;
+    private boolean isAtEnd;
+
+    /**
+     * Creates a finder of the chunks of about {@code chunkSize} bytes or more in the CSV document read from
+     * {@code csvChannel}, starting at its current position.
+     */
+    CsvChunks(ReadableByteChannel csvChannel, int chunkSize) {
+        requireNonNull(csvChannel);
+        checkArgument(chunkSize > 0, "The chunk size must be positive.");
+        this.csvChannel = csvChannel;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns the offset, from the start of the document, just after the end of the next chunk, or -1 if there are
+     * no more chunks. A chunk starts where the one before it ends. An empty document has one empty chunk.
+     */
+    long nextChunkEnd() throws IOException {
+        if (isAtEnd) {
+            return -1;
+        }
+        while (true) {
+            while (scanBuffer.hasRemaining()) {
+                byte b = scanBuffer.get();
+                offset++;
+                if (b == '"') {
+                    // Two quotes in a quoted section toggle it twice, which leaves it quoted as CsvReader does.
+                    isInQuotes = !isInQuotes;
+                } else if (b == '\n' && !isInQuotes && offset - chunkStart >= chunkSize) {
+                    chunkStart = offset;
+                    return offset;
+                }
+            }
+            scanBuffer.clear();
+            int bytesRead = csvChannel.read(scanBuffer);
+            scanBuffer.flip();
+            if (bytesRead < 0) {
+                isAtEnd = true;
+                return offset > chunkStart || offset == 0 ? offset : -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a CSV document one at a time, without holding more than the current record in memory.
+ * Fields are separated by commas and records by line breaks, as in RFC 4180. A quote starts or ends a quoted
+ * section, in which commas and line breaks are part of the field and two quotes stand for one. Line breaks may be
+ * {@code \n}, {@code \r\n} or {@code \r}, and are read as {@code \n} inside quoted sections.
+ */
+class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int END_OF_INPUT = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private final StringBuilder field = new StringBuilder();
+
+    CsvReader(Reader reader) {
+        this.reader = requireNonNull(reader);
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     */
+    String[] readRecord() throws IOException {
+        int c = read();
+        if (c == END_OF_INPUT) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        boolean isInQuotes = false;
+        field.setLength(0);
+        while (true) {
+            if (c == END_OF_INPUT) {
+                // A quoted section left open at the end of the input ends with it.
+                break;
+            } else if (c == '"') {
+                if (isInQuotes && peek() == '"') {
+                    read();
+                    field.append('"');
+                } else {
+                    isInQuotes = !isInQuotes;
+                }
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (!isInQuotes) {
+                    break;
+                }
+                field.append('\n');
+            } else if (c == ',' && !isInQuotes) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return END_OF_INPUT;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return END_OF_INPUT;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int count = reader.read(buffer, 0, buffer.length);
+        while (count == 0) {
+            count = reader.read(buffer, 0, buffer.length);
+        }
+        position = 0;
+        limit = Math.max(count, 0);
+        return count > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,345 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored in a single-file embedded database, with one record per employee keyed
+ * by its employee id. Each record holds the employee, with its anniversaries, as compact json.
+ * The storage remembers the records it last read or wrote, and each save appends only the records of the employees
+ * that were added, edited or deleted since, as one transaction of the database. The changes of a command, such as
+ * an import or a clear, are therefore saved all together or not at all.
+ * The order of the employees is kept as an ordinal in each record, with gaps left between the ordinals so that an
+ * employee can be inserted without renumbering the others. Once the records that were replaced or deleted take up
+ * more than the compaction threshold, or the employees are reordered, the database is rewritten in full instead.
+ */
+public class DatabaseAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseAddressBookStorage.class);
+    private static final String DATABASE_SUFFIX = ".db";
+    private static final long ORDINAL_GAP = 1L << 32;
+    // Approximate bytes taken by a stored record besides its key and value.
+    private static final int RECORD_OVERHEAD = 17;
+
+    private final Path filePath;
+    private final long compactionThreshold;
+
+    // The records in the file at filePath, or null if they are not known.
+    private Map<EmployeeId, StoredEmployee> storedEmployees;
+    private long storedLength;
+    private long liveLength;
+
+    /**
+     * Creates a storage for the database at {@code filePath}, rewriting it in full once the records that were
+     * replaced or deleted take up more than {@code compactionThreshold} bytes.
+     */
+    public DatabaseAddressBookStorage(Path filePath, long compactionThreshold) {
+        requireNonNull(filePath);
+        checkArgument(compactionThreshold > 0, "The compaction threshold must be positive.");
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the database kept for the json data file at {@code dataFilePath}.
+     * The database is a file of its own, so that it is never read as, or overwritten by, a json data file.
+     */
+    public static Path getDatabasePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + DATABASE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<DatabaseFile.Contents> contents = DatabaseFile.read(filePath);
+            if (!contents.isPresent()) {
+                return Optional.empty();
+            }
+            return Optional.of(toAddressBook(contents.get(), filePath.equals(this.filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from database file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Converts the records in {@code contents} into an address book, and remembers them as the records stored in
+     * the file of this storage if {@code isStored} is true.
+     */
+    private AddressBook toAddressBook(DatabaseFile.Contents contents, boolean isStored)
+            throws IOException, IllegalValueException {
+        List<DatabaseFile.Record> records = new ArrayList<>(contents.getRecords().values());
+        records.sort(Comparator.comparingLong(DatabaseFile.Record::getOrdinal));
+
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        List<Employee> employees = new ArrayList<>(records.size());
+        Map<EmployeeId, StoredEmployee> readEmployees = new HashMap<>();
+        long readLength = 0;
+        for (DatabaseFile.Record record : records) {
+            Employee employee = objectMapper.readValue(record.getValue(), JsonAdaptedPerson.class).toModelType();
+            if (!employee.getEmployeeId().value.equals(record.getKey())) {
+                throw new IllegalValueException(DatabaseFile.MESSAGE_CORRUPTED_DATABASE);
+            }
+            StoredEmployee stored = new StoredEmployee(employee, record.getOrdinal(), sizeOf(record));
+            employees.add(employee);
+            readEmployees.put(employee.getEmployeeId(), stored);
+            readLength += stored.size;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setEmployees(employees);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+
+        if (isStored) {
+            storedEmployees = readEmployees;
+            storedLength = contents.getValidLength();
+            liveLength = readLength;
+        }
+        return addressBook;
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        return new AddressBookSnapshot(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the records of the database of this storage are updated one by one; a database at any other path is
+     * written in full.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Employee> employees = addressBook.getEmployeeList();
+        if (!filePath.equals(this.filePath)) {
+            writeInFull(employees, filePath);
+            return;
+        }
+
+        long[] ordinals = storedEmployees == null ? null : assignOrdinals(employees);
+        if (ordinals == null) {
+            rewrite(employees);
+            return;
+        }
+        appendChanges(employees, ordinals);
+        if (storedLength - liveLength > compactionThreshold && storedLength > 2 * liveLength) {
+            logger.fine("Compacting database " + filePath);
+            rewrite(employees);
+        }
+    }
+
+    /**
+     * Rewrites the database of this storage with only the records of {@code employees}.
+     * If this fails, the records in the file are no longer known, so the next save tries again.
+     */
+    private void rewrite(List<Employee> employees) throws IOException {
+        storedEmployees = null;
+        Map<EmployeeId, StoredEmployee> writtenEmployees = new HashMap<>();
+        long writtenLength = 0;
+        List<DatabaseFile.Record> records = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            DatabaseFile.Record record = toRecord(employee, (i + 1) * ORDINAL_GAP);
+            StoredEmployee stored = new StoredEmployee(employee, record.getOrdinal(), sizeOf(record));
+            records.add(record);
+            writtenEmployees.put(employee.getEmployeeId(), stored);
+            writtenLength += stored.size;
+        }
+
+        storedLength = DatabaseFile.write(records, filePath);
+        storedEmployees = writtenEmployees;
+        liveLength = writtenLength;
+    }
+
+    private static void writeInFull(List<Employee> employees, Path filePath) throws IOException {
+        List<DatabaseFile.Record> records = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            records.add(toRecord(employees.get(i), (i + 1) * ORDINAL_GAP));
+        }
+        DatabaseFile.write(records, filePath);
+    }
+
+    /**
+     * Returns the ordinals that keep {@code employees} in order, reusing the stored ordinal of each employee that
+     * is still in order, or null if the database is cheaper to rewrite.
+     */
+    private long[] assignOrdinals(List<Employee> employees) {
+        long[] ordinals = new long[employees.size()];
+        boolean[] isKept = new boolean[employees.size()];
+        long lastKept = 0;
+        int movedCount = 0;
+        for (int i = 0; i < employees.size(); i++) {
+            StoredEmployee stored = storedEmployees.get(employees.get(i).getEmployeeId());
+            if (stored != null && stored.ordinal > lastKept) {
+                isKept[i] = true;
+                ordinals[i] = stored.ordinal;
+                lastKept = stored.ordinal;
+            } else if (stored != null) {
+                movedCount++;
+            }
+        }
+        if (movedCount > employees.size() / 2 || lastKept > Long.MAX_VALUE / 2) {
+            return null;
+        }
+
+        // Spreads the employees that are new or out of order evenly between the kept ones around them.
+        int runStart = 0;
+        long low = 0;
+        for (int i = 0; i <= employees.size(); i++) {
+            if (i < employees.size() && !isKept[i]) {
+                continue;
+            }
+            int runLength = i - runStart;
+            long high = i < employees.size() ? ordinals[i] : low + (runLength + 1) * ORDINAL_GAP;
+            long spacing = (high - low) / (runLength + 1);
+            if (runLength > 0 && spacing == 0) {
+                return null;
+            }
+            for (int j = 0; j < runLength; j++) {
+                ordinals[runStart + j] = low + (j + 1) * spacing;
+            }
+            low = high;
+            runStart = i + 1;
+        }
+        return ordinals;
+    }
+
+    /**
+     * Appends the records of the employees that were added, edited, moved or deleted since the last save as one
+     * transaction.
+     */
+    private void appendChanges(List<Employee> employees, long[] ordinals) throws IOException {
+        Map<EmployeeId, StoredEmployee> updatedEmployees = new HashMap<>();
+        Set<EmployeeId> seenIds = new HashSet<>(employees.size() * 2);
+        List<DatabaseFile.Record> records = new ArrayList<>();
+        long updatedLength = liveLength;
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            seenIds.add(employee.getEmployeeId());
+            StoredEmployee stored = storedEmployees.get(employee.getEmployeeId());
+            if (stored != null && stored.ordinal == ordinals[i] && isUnchanged(stored.employee, employee)) {
+                continue;
+            }
+
+            DatabaseFile.Record record = toRecord(employee, ordinals[i]);
+            StoredEmployee updated = new StoredEmployee(employee, ordinals[i], sizeOf(record));
+            records.add(record);
+            updatedEmployees.put(employee.getEmployeeId(), updated);
+            updatedLength += updated.size - (stored == null ? 0 : stored.size);
+        }
+        List<EmployeeId> deletedIds = new ArrayList<>();
+        for (Map.Entry<EmployeeId, StoredEmployee> stored : storedEmployees.entrySet()) {
+            if (!seenIds.contains(stored.getKey())) {
+                records.add(DatabaseFile.Record.delete(stored.getKey().value));
+                deletedIds.add(stored.getKey());
+                updatedLength -= stored.getValue().size;
+            }
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        try {
+            storedLength = DatabaseFile.append(records, filePath, storedLength);
+        } catch (IOException e) {
+            // The transaction may be partly written, so the next save rewrites the database.
+            storedEmployees = null;
+            throw e;
+        }
+        storedEmployees.putAll(updatedEmployees);
+        deletedIds.forEach(storedEmployees::remove);
+        liveLength = updatedLength;
+    }
+
+    /**
+     * Returns true if {@code employee} stores the same record as {@code storedEmployee}.
+     * {@link Employee#equals(Object)} ignores the anniversaries, which are part of the record.
+     */
+    private static boolean isUnchanged(Employee storedEmployee, Employee employee) {
+        return storedEmployee == employee || (storedEmployee.equals(employee)
+                && storedEmployee.getAnniversaries().equals(employee.getAnniversaries()));
+    }
+
+    private static DatabaseFile.Record toRecord(Employee employee, long ordinal) throws IOException {
+        byte[] value = JsonUtil.getObjectMapper().writeValueAsBytes(new JsonAdaptedPerson(employee));
+        return DatabaseFile.Record.put(employee.getEmployeeId().value, ordinal, value);
+    }
+
+    private static long sizeOf(DatabaseFile.Record record) {
+        return RECORD_OVERHEAD + record.getKey().length() + record.getValue().length;
+    }
+
+    /**
+     * An employee as stored in the database.
+     */
+    private static class StoredEmployee {
+        private final Employee employee;
+        private final long ordinal;
+        private final long size;
+
+        StoredEmployee(Employee employee, long ordinal, long size) {
+            this.employee = employee;
+            this.ordinal = ordinal;
+            this.size = size;
+        }
+    }
+}
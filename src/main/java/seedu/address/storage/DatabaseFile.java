@@ -0,0 +1,262 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import lombok.Getter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads and writes the single file of a {@link DatabaseAddressBookStorage}: a log of transactions, each of which
+ * stores or deletes records keyed by an employee id. The latest record of each key wins.
+ * A transaction is written as the length of its records, a CRC-32 checksum of that length, the records and a
+ * CRC-32 checksum of them. A transaction cut short by a crash is therefore detected, and ignored when it is the last
+ * one in the file. The checksum of the length tells a transaction cut short apart from one whose length is damaged,
+ * which may hide later transactions.
+ */
+class DatabaseFile {
+
+    public static final String MESSAGE_CORRUPTED_DATABASE = "Database file is corrupted.";
+
+    private static final int MAGIC = 0x48524442; // "HRDB"
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_LENGTH = 2 * Integer.BYTES;
+    private static final int TRANSACTION_OVERHEAD = 3 * Integer.BYTES;
+    private static final int RECORDS_PER_WRITTEN_TRANSACTION = 4096;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    private DatabaseFile() {
+    }
+
+    /**
+     * Writes a database holding only {@code records} to {@code filePath}, replacing the file in one step.
+     *
+     * @return the length of the written file.
+     */
+    static long write(Collection<Record> records, Path filePath) throws IOException {
+        requireNonNull(records);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFile(filePath, outputStream -> {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            // The file is replaced as a whole, so splitting the records only bounds the memory used per transaction.
+            List<Record> recordList = new ArrayList<>(records);
+            for (int from = 0; from < recordList.size(); from += RECORDS_PER_WRITTEN_TRANSACTION) {
+                int to = Math.min(from + RECORDS_PER_WRITTEN_TRANSACTION, recordList.size());
+                output.write(encodeTransaction(recordList.subList(from, to)));
+            }
+            output.flush();
+        });
+        return Files.size(filePath);
+    }
+
+    /**
+     * Appends {@code records} to the database at {@code filePath} as one transaction, and forces it to the disk.
+     * Anything after the first {@code validLength} bytes of the file, such as a transaction that was cut short,
+     * is dropped first.
+     *
+     * @return the length of the file after the append.
+     */
+    static long append(List<Record> records, Path filePath, long validLength) throws IOException {
+        requireNonNull(records);
+        requireNonNull(filePath);
+
+        ByteBuffer transaction = ByteBuffer.wrap(encodeTransaction(records));
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            if (channel.size() > validLength) {
+                channel.truncate(validLength);
+            }
+            channel.position(validLength);
+            while (transaction.hasRemaining()) {
+                channel.write(transaction);
+            }
+            channel.force(false);
+            return channel.position();
+        }
+    }
+
+    private static byte[] encodeTransaction(List<Record> records) throws IOException {
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(recordBytes);
+        output.writeInt(records.size());
+        for (Record record : records) {
+            output.writeByte(record.isDeletion() ? DELETE : PUT);
+            writeBytes(output, record.getKey().getBytes(StandardCharsets.UTF_8));
+            if (!record.isDeletion()) {
+                output.writeLong(record.getOrdinal());
+                writeBytes(output, record.getValue());
+            }
+        }
+        output.flush();
+
+        byte[] payload = recordBytes.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(payload);
+        ByteBuffer transaction = ByteBuffer.allocate(payload.length + TRANSACTION_OVERHEAD);
+        transaction.putInt(payload.length);
+        transaction.putInt(checksumOf(payload.length));
+        transaction.put(payload);
+        transaction.putInt((int) checksum.getValue());
+        return transaction.array();
+    }
+
+    private static int checksumOf(int payloadLength) {
+        CRC32 checksum = new CRC32();
+        checksum.update(ByteBuffer.allocate(Integer.BYTES).putInt(payloadLength).array());
+        return (int) checksum.getValue();
+    }
+
+    private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads the database at {@code filePath}, or returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if the file is not a database or a transaction other than the last is corrupted.
+     */
+    static Optional<Contents> read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        long fileLength = Files.size(filePath);
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(filePath))) {
+            DataInputStream input = new DataInputStream(inputStream);
+            if (fileLength < HEADER_LENGTH || input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATABASE);
+            }
+
+            Contents contents = new Contents();
+            long position = HEADER_LENGTH;
+            while (fileLength - position >= TRANSACTION_OVERHEAD) {
+                int payloadLength = input.readInt();
+                if (input.readInt() != checksumOf(payloadLength) || payloadLength < 0) {
+                    // The end of the transaction is unknown, so later transactions cannot be ruled out.
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_DATABASE);
+                }
+                long end = position + TRANSACTION_OVERHEAD + payloadLength;
+                if (end > fileLength) {
+                    // The length is intact, so this transaction was cut short while being appended and is the last.
+                    break;
+                }
+                byte[] payload = new byte[payloadLength];
+                input.readFully(payload);
+                CRC32 checksum = new CRC32();
+                checksum.update(payload);
+                if (input.readInt() != (int) checksum.getValue()) {
+                    if (end == fileLength) {
+                        break;
+                    }
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_DATABASE);
+                }
+                contents.apply(ByteBuffer.wrap(payload));
+                position = end;
+            }
+            contents.validLength = position;
+            return Optional.of(contents);
+        }
+    }
+
+    /**
+     * A stored value, or the deletion of the value stored under the same key.
+     */
+    @Getter
+    static class Record {
+        private final String key;
+        private final long ordinal;
+        private final byte[] value;
+
+        private Record(String key, long ordinal, byte[] value) {
+            this.key = requireNonNull(key);
+            this.ordinal = ordinal;
+            this.value = value;
+        }
+
+        /**
+         * Returns a record that stores {@code value} under {@code key}, ordered by {@code ordinal}.
+         */
+        static Record put(String key, long ordinal, byte[] value) {
+            return new Record(key, ordinal, requireNonNull(value));
+        }
+
+        /**
+         * Returns a record that deletes the value stored under {@code key}.
+         */
+        static Record delete(String key) {
+            return new Record(key, 0, null);
+        }
+
+        boolean isDeletion() {
+            return value == null;
+        }
+    }
+
+    /**
+     * The records of a database that were not deleted, and the length of the file up to its last complete
+     * transaction.
+     */
+    @Getter
+    static class Contents {
+        private final Map<String, Record> records = new HashMap<>();
+        private long validLength;
+
+        private void apply(ByteBuffer payload) throws IllegalValueException {
+            try {
+                int count = payload.getInt();
+                for (int i = 0; i < count; i++) {
+                    byte operation = payload.get();
+                    String key = new String(readBytes(payload), StandardCharsets.UTF_8);
+                    if (operation == DELETE) {
+                        records.remove(key);
+                    } else if (operation == PUT) {
+                        long ordinal = payload.getLong();
+                        records.put(key, Record.put(key, ordinal, readBytes(payload)));
+                    } else {
+                        throw new IllegalValueException(MESSAGE_CORRUPTED_DATABASE);
+                    }
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                // A transaction with a valid checksum that does not hold the records it declares.
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATABASE, e);
+            }
+        }
+
+        private static byte[] readBytes(ByteBuffer payload) throws IllegalValueException {
+            int length = payload.getInt();
+            if (length < 0 || length > payload.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATABASE);
+            }
+            byte[] bytes = new byte[length];
+            payload.get(bytes);
+            return bytes;
+        }
+    }
+}
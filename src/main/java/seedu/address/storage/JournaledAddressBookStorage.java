@@ -0,0 +1,429 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Employee;
+
+/**
+ * A class to access AddressBook data stored as a json checkpoint file plus an append-only journal of the changes
+ * made since the checkpoint.
+ * The checkpoint has the same format as the file of {@link JsonAddressBookStorage}. Taking the first snapshot of an
+ * address book starts listening to its employee list, and the first save writes a full checkpoint; later saves only
+ * append the changes included in the saved snapshot to the journal, one compact json entry per line. Once the journal
+ * grows past the compaction threshold, a new checkpoint is written on a background thread and the journal is started
+ * afresh. Saving any other file writes it in full as before.
+ * Snapshots may be saved on another thread than the one that modifies the address book.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.old";
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final ExecutorService compactor;
+    private final ListChangeListener<Employee> journalListener = this::recordChanges;
+    private final JsonAddressBookWriter checkpointWriter = new JsonAddressBookWriter(true);
+    private final JsonAddressBookWriter prettyWriter = new JsonAddressBookWriter(false);
+
+    // Used by the thread that modifies the journaled address book.
+    private ReadOnlyAddressBook journaledAddressBook;
+    private ObservableList<Employee> journaledEmployees;
+    private long sequenceBase;
+    private long lastSequence;
+
+    // Shared with the thread that saves the snapshots.
+    private final Object pendingLock = new Object();
+    private final List<JsonAdaptedJournalEntry> pendingEntries = new ArrayList<>();
+    private volatile int generation;
+    private long checkpointNeededAt = -1;
+
+    // Shared with the thread that compacts the journal; also held while the files are read or swapped.
+    private final Object checkpointLock = new Object();
+    private long checkpointSequence = -1;
+
+    /**
+     * Creates a journaled storage for the data file at {@code filePath}, compacting the journal once it is larger
+     * than {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold) {
+        requireNonNull(filePath);
+        checkArgument(compactionThreshold > 0, "The compaction threshold must be positive.");
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the checkpoint at {@code checkpointPath}.
+     */
+    public static Path getJournalPath(Path checkpointPath) {
+        return checkpointPath.resolveSibling(checkpointPath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getCompactingJournalPath(Path checkpointPath) {
+        return checkpointPath.resolveSibling(checkpointPath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public List<Path> getAuxiliaryFilePaths(Path filePath) {
+        return List.of(getJournalPath(filePath), getCompactingJournalPath(filePath));
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the checkpoint at {@code filePath} and replays the journal entries written after it.
+     *
+     * @param filePath location of the checkpoint. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        // A compaction must not replace the checkpoint or remove a journal between the reads below.
+        synchronized (checkpointLock) {
+            return readCheckpointAndJournals(filePath);
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readCheckpointAndJournals(Path filePath) throws DataLoadingException {
+        Optional<JsonAddressBookReader> checkpoint = JsonAddressBookReader.read(filePath);
+        if (!checkpoint.isPresent()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = checkpoint.get().getAddressBook();
+        long checkpointedSequence = checkpoint.get().getJournalSequence();
+        long sequence = Math.max(checkpointedSequence,
+                replayJournal(getCompactingJournalPath(filePath), addressBook, checkpointedSequence));
+        sequence = Math.max(sequence, replayJournal(getJournalPath(filePath), addressBook, checkpointedSequence));
+        if (filePath.equals(this.filePath)) {
+            lastSequence = Math.max(lastSequence, sequence);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the entries of {@code journalPath} that come after {@code checkpointSequence} to {@code addressBook},
+     * and returns the largest sequence number in the journal, or -1 if it has no entries.
+     * An unreadable last line is ignored, since it is the trace of a save that was interrupted.
+     */
+    private static long replayJournal(Path journalPath, AddressBook addressBook, long checkpointSequence)
+            throws DataLoadingException {
+        long sequence = -1;
+        if (!Files.exists(journalPath)) {
+            return sequence;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = objectMapper.readValue(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+                    break;
+                }
+                throw new DataLoadingException(e);
+            }
+            sequence = Math.max(sequence, entry.getSequence());
+            if (entry.getSequence() <= checkpointSequence) {
+                continue;
+            }
+
+            try {
+                entry.applyTo(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook}, and journals the changes made to it from now on if it is not
+     * the address book being journaled yet. Its first save then writes a checkpoint.
+     */
+    @Override
+    public ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook.getEmployeeList() != journaledEmployees) {
+            startJournaling(addressBook);
+        }
+        return new JournalSnapshot(addressBook, generation, toSequence(addressBook.getVersion()));
+    }
+
+    private void startJournaling(ReadOnlyAddressBook addressBook) {
+        if (journaledEmployees != null) {
+            journaledEmployees.removeListener(journalListener);
+        }
+        journaledAddressBook = addressBook;
+        journaledEmployees = addressBook.getEmployeeList();
+        // Sequence numbers continue after every entry read or written so far, so that entries left over from
+        // an earlier journal are never replayed on a checkpoint of this address book.
+        sequenceBase = lastSequence + 1 - addressBook.getVersion();
+        lastSequence = toSequence(addressBook.getVersion());
+
+        synchronized (pendingLock) {
+            generation++;
+            pendingEntries.clear();
+            checkpointNeededAt = lastSequence;
+        }
+        journaledEmployees.addListener(journalListener);
+    }
+
+    private long toSequence(long version) {
+        return sequenceBase + version;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the data file of this storage is journaled; any other file is written in full.
+     * {@code addressBook} is expected to be a snapshot from {@link #snapshotAddressBook(ReadOnlyAddressBook)};
+     * otherwise it is snapshotted first, which must then happen on the thread that modifies it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            prettyWriter.write(addressBook.getEmployeeList(), filePath);
+            return;
+        }
+
+        JournalSnapshot snapshot = addressBook instanceof JournalSnapshot
+                ? (JournalSnapshot) addressBook
+                : (JournalSnapshot) snapshotAddressBook(addressBook);
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        boolean isCheckpointNeeded;
+        synchronized (pendingLock) {
+            if (snapshot.generation != generation) {
+                logger.fine("Skipping save of an address book that is no longer journaled");
+                return;
+            }
+            if (checkpointNeededAt > snapshot.sequence) {
+                // The save of a later snapshot writes the checkpoint.
+                return;
+            }
+            isCheckpointNeeded = checkpointNeededAt >= 0;
+            checkpointNeededAt = -1;
+            while (!pendingEntries.isEmpty() && pendingEntries.get(0).getSequence() <= snapshot.sequence) {
+                entries.add(pendingEntries.remove(0));
+            }
+        }
+
+        if (isCheckpointNeeded) {
+            writeCheckpointAndClearJournal(snapshot);
+            return;
+        }
+        appendEntries(entries, snapshot.sequence);
+        Path journalPath = getJournalPath(filePath);
+        if (Files.exists(journalPath) && Files.size(journalPath) > compactionThreshold) {
+            compactInBackground(snapshot);
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} as the checkpoint and deletes the journal it includes.
+     * If this fails, the next save tries again.
+     */
+    private void writeCheckpointAndClearJournal(JournalSnapshot snapshot) throws IOException {
+        try {
+            synchronized (checkpointLock) {
+                writeCheckpoint(snapshot.getEmployeeList(), snapshot.sequence);
+                Files.deleteIfExists(getCompactingJournalPath(filePath));
+                Files.deleteIfExists(getJournalPath(filePath));
+            }
+        } catch (IOException e) {
+            requestCheckpoint(snapshot.generation, snapshot.sequence);
+            throw e;
+        }
+    }
+
+    /**
+     * Turns the changes to the journaled employees into pending journal entries, numbered with the version
+     * of the address book after the change.
+     * Changes that are cheaper to save as a checkpoint, such as a sort or replacing most of the list,
+     * are not journaled; the next save writes a checkpoint instead.
+     */
+    private void recordChanges(ListChangeListener.Change<? extends Employee> change) {
+        long sequence = toSequence(journaledAddressBook.getVersion());
+        lastSequence = Math.max(lastSequence, sequence);
+        int currentGeneration = generation;
+
+        synchronized (pendingLock) {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    requestCheckpoint(currentGeneration, sequence);
+                    continue;
+                }
+
+                int index = change.getFrom();
+                for (Employee removed : change.getRemoved()) {
+                    pendingEntries.add(JsonAdaptedJournalEntry.removed(sequence, index, removed));
+                }
+                for (Employee added : change.getAddedSubList()) {
+                    pendingEntries.add(JsonAdaptedJournalEntry.added(sequence, index++, added));
+                }
+                if (pendingEntries.size() > change.getList().size()) {
+                    requestCheckpoint(currentGeneration, sequence);
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes the next save of a snapshot at or after {@code sequence} write a checkpoint, and drops the pending
+     * entries that the checkpoint includes.
+     */
+    private void requestCheckpoint(int generation, long sequence) {
+        synchronized (pendingLock) {
+            if (generation != this.generation) {
+                return;
+            }
+            checkpointNeededAt = Math.max(checkpointNeededAt, sequence);
+            pendingEntries.removeIf(entry -> entry.getSequence() <= sequence);
+        }
+    }
+
+    /**
+     * Appends {@code entries} to the journal, one line per entry.
+     * If the append fails, the journal may end with a partial entry, so a checkpoint is written on the next save.
+     */
+    private void appendEntries(List<JsonAdaptedJournalEntry> entries, long sequence) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+        }
+
+        try {
+            FileUtil.appendToFile(getJournalPath(filePath), lines.toString());
+        } catch (IOException e) {
+            requestCheckpoint(generation, sequence);
+            throw e;
+        }
+    }
+
+    /**
+     * Moves the journal aside and folds it into a checkpoint of {@code snapshot} on the background thread.
+     * Entries saved in the meantime go to a new journal. Does nothing if a compaction is still running.
+     */
+    private void compactInBackground(JournalSnapshot snapshot) throws IOException {
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        if (Files.exists(compactingJournalPath)) {
+            return;
+        }
+
+        synchronized (checkpointLock) {
+            Files.move(getJournalPath(filePath), compactingJournalPath);
+        }
+        logger.fine("Compacting journal of " + filePath + " up to entry " + snapshot.sequence);
+
+        compactor.execute(() -> {
+            try {
+                synchronized (checkpointLock) {
+                    writeCheckpoint(snapshot.getEmployeeList(), snapshot.sequence);
+                    Files.deleteIfExists(compactingJournalPath);
+                }
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal of " + filePath + ": " + e);
+                requestCheckpoint(snapshot.generation, snapshot.sequence);
+            }
+        });
+    }
+
+    /**
+     * Writes {@code employees} as the checkpoint of the journal up to {@code sequence}, unless a later checkpoint
+     * was already written.
+     */
+    private void writeCheckpoint(List<Employee> employees, long sequence) throws IOException {
+        synchronized (checkpointLock) {
+            if (sequence <= checkpointSequence) {
+                return;
+            }
+
+            checkpointWriter.write(employees, sequence, filePath);
+            checkpointSequence = sequence;
+        }
+    }
+
+    /**
+     * A snapshot of the journaled address book, numbered like the journal entries of the changes it includes.
+     */
+    private static class JournalSnapshot extends AddressBookSnapshot {
+        private final int generation;
+        private final long sequence;
+
+        JournalSnapshot(ReadOnlyAddressBook source, int generation, long sequence) {
+            super(source);
+            this.generation = generation;
+            this.sequence = sequence;
+        }
+    }
+}
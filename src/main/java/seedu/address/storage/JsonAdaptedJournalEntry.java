@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Employee;
+
+/**
+ * Jackson-friendly version of a single change to the employee list, as recorded in the address book journal.
+ * An entry either inserts an employee at a position, or removes the employee at a position.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry %d does not match the address book.";
+
+    private final long sequence;
+    private final String operation;
+    private final int index;
+    private final JsonAdaptedPerson person;
+    private final String employeeId;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequence") long sequence,
+                                   @JsonProperty("operation") String operation,
+                                   @JsonProperty("index") int index,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("employeeId") String employeeId) {
+        this.sequence = sequence;
+        this.operation = operation;
+        this.index = index;
+        this.person = person;
+        this.employeeId = employeeId;
+    }
+
+    /**
+     * Returns an entry recording that {@code employee} was inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry added(long sequence, int index, Employee employee) {
+        return new JsonAdaptedJournalEntry(sequence, OPERATION_ADD, index, new JsonAdaptedPerson(employee), null);
+    }
+
+    /**
+     * Returns an entry recording that {@code employee} was removed from {@code index}.
+     * Only the employee ID is kept, to check that the entry is replayed against the same employee.
+     */
+    public static JsonAdaptedJournalEntry removed(long sequence, int index, Employee employee) {
+        return new JsonAdaptedJournalEntry(sequence, OPERATION_REMOVE, index, null,
+                employee.getEmployeeId().toString());
+    }
+
+    /**
+     * Replays this entry on {@code addressBook}, which must be in the state right before the change.
+     *
+     * @throws IllegalValueException if the entry is malformed or does not apply to {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        int size = addressBook.getEmployeeList().size();
+        if (OPERATION_ADD.equals(operation) && person != null && index >= 0 && index <= size) {
+            Employee employee = person.toModelType();
+            if (addressBook.hasPerson(employee)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(index, employee);
+            return;
+        }
+        if (OPERATION_REMOVE.equals(operation) && index >= 0 && index < size) {
+            Employee employee = addressBook.getEmployeeList().get(index);
+            if (employee.getEmployeeId().toString().equals(employeeId)) {
+                addressBook.removePerson(employee);
+                return;
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, sequence));
+    }
+}
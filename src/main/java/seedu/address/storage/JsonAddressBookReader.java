@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Employee;
+
+/**
+ * Reads an address book json file, in the format of {@link JsonSerializableAddressBook}, without holding the whole
+ * file in memory.
+ * The file is parsed as a stream, and each element of {@code persons} is converted into an {@code Employee} and
+ * added to the address book as soon as it is read, so that the file contents and the Jackson-friendly persons are
+ * never held in full alongside the address book.
+ */
+@Getter
+class JsonAddressBookReader {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookReader.class);
+    private static final String PERSONS_FIELD = "persons";
+    private static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private final AddressBook addressBook = new AddressBook();
+    private long journalSequence;
+
+    private JsonAddressBookReader() {
+    }
+
+    /**
+     * Reads the address book in {@code filePath}, or returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file cannot be read, is not valid json of an address book, or violates
+     *     any data constraints.
+     */
+    static Optional<JsonAddressBookReader> read(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try {
+            return Optional.of(readStream(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static JsonAddressBookReader readStream(Path filePath) throws IOException, IllegalValueException {
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            reader.readAddressBook(parser, objectMapper);
+        }
+        return reader;
+    }
+
+    private void readAddressBook(JsonParser parser, ObjectMapper objectMapper)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (PERSONS_FIELD.equals(fieldName)) {
+                if (valueToken != JsonToken.VALUE_NULL) {
+                    expect(parser, valueToken, JsonToken.START_ARRAY);
+                    readPersons(parser, objectMapper);
+                }
+            } else if (JOURNAL_SEQUENCE_FIELD.equals(fieldName)) {
+                journalSequence = parser.getValueAsLong();
+            } else {
+                // Unknown fields are ignored, as when the whole file is read by Jackson.
+                parser.skipChildren();
+            }
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+    }
+
+    private void readPersons(JsonParser parser, ObjectMapper objectMapper) throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+            Employee employee = objectMapper.readValue(parser, JsonAdaptedPerson.class).toModelType();
+            if (addressBook.hasPerson(employee)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(employee);
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Employee;
+
+/**
+ * Writes address book json files, in the format of {@link JsonSerializableAddressBook}, straight from the employees
+ * of the model.
+ * Each employee is written through a {@code JsonGenerator} as soon as it is converted, so the document is never
+ * built in memory as a whole, and only a buffer of constant size is held.
+ */
+class JsonAddressBookWriter {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private final boolean isCompact;
+
+    /**
+     * Creates a writer that writes compact json, without any whitespace, if {@code isCompact} is true, or
+     * pretty-printed json otherwise.
+     */
+    JsonAddressBookWriter(boolean isCompact) {
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Writes {@code employees} to {@code filePath}, replacing the file in one step.
+     *
+     * @return the CRC32 checksum of the bytes written.
+     */
+    long write(List<Employee> employees, Path filePath) throws IOException {
+        return write(employees, 0, filePath);
+    }
+
+    /**
+     * Writes {@code employees}, which include every journal entry up to {@code journalSequence}, to
+     * {@code filePath}, replacing the file in one step.
+     *
+     * @return the CRC32 checksum of the bytes written.
+     */
+    long write(List<Employee> employees, long journalSequence, Path filePath) throws IOException {
+        requireNonNull(employees);
+        requireNonNull(filePath);
+        CRC32 checksum = new CRC32();
+        FileUtil.writeToFile(filePath, outputStream -> writeDocument(employees, journalSequence,
+                new CheckedOutputStream(outputStream, checksum)));
+        return checksum.getValue();
+    }
+
+    private void writeDocument(List<Employee> employees, long journalSequence, OutputStream outputStream)
+            throws IOException {
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        // Flushing after every person would defeat the buffer.
+        ObjectWriter personWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            // The stream belongs to the caller.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Employee employee : employees) {
+                personWriter.writeValue(generator, new JsonAdaptedPerson(employee));
+            }
+            generator.writeEndArray();
+            if (journalSequence != 0) {
+                generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, journalSequence);
+            }
+            generator.writeEndObject();
+        }
+    }
+}
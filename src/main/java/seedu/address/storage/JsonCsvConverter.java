@@ -1,19 +1,41 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.CharArrayReader;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.MultiFormatLocalDateDeserializer;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.anniversary.AnniversaryType;
+import seedu.address.model.person.Employee;
+import seedu.address.model.tag.Tag;
 //@@author WailyDest
 /**
  * Converts between JSON and CSV formats with proper handling of complex structures.
@@ -35,98 +57,138 @@ public class JsonCsvConverter {
     public static final String DATE = "date";
     public static final String TYPE = "type";
     public static final String DESCRIPTION = "description";
-    private final ObjectMapper mapper;
+    private static final String[] CSV_FIELDS = {
+        EMPLOYEEID, NAME, PHONE, EMAIL, JOBPOSITION, TAGS,
+        ANNIVERSARYDATE, ANNIVERSARYTYPE, ANNIVERSARYTYPEDESC, ANNIVERSARYNAME, ANNIVERSARYDESCRIPTION
+    };
+    private static final String EMPTY_ANNIVERSARY_FIELDS = ",,,,,";
+    private static final int CHUNK_SIZE = 1 << 20;
+    // The largest chunk that fits in one array, with room for the header words some VMs reserve in it.
+    private static final long MAX_CHUNK_SIZE = Integer.MAX_VALUE - 8;
     private final QueryValidator validator;
 
     /**
-     * Creates a new JsonCsvConverter with the given ObjectMapper and QueryValidator.
-     * @param mapper The ObjectMapper to use for JSON conversion.
+     * Creates a new JsonCsvConverter with the given QueryValidator.
      * @param validator The QueryValidator to use for validation.
      */
-    public JsonCsvConverter(ObjectMapper mapper, QueryValidator validator) {
-        this.mapper = mapper;
+    public JsonCsvConverter(QueryValidator validator) {
         this.validator = validator;
     }
     /**
-     * Converts an object to CSV format.
-     * @param obj The object to convert.
-     * @return The CSV representation of the object.
-     * @throws JsonProcessingException If the object cannot be converted.
+     * Converts an address book to CSV format.
+     * @param addressBook The address book to convert.
+     * @return The CSV representation of the address book.
+     * @throws IOException If the address book cannot be converted.
      */
-    public String toCsv(Object obj) throws JsonProcessingException {
-        validator.validateForWrite(obj);
-        JsonNode rootNode = mapper.valueToTree(obj);
-        StringBuilder csvBuilder = new StringBuilder();
-        if (rootNode.has("persons") && rootNode.get("persons").isArray()) {
-            ArrayNode persons = (ArrayNode) rootNode.get("persons");
-            // Updated CSV header includes anniversaryTypeDesc
-            List<String> headers = Arrays.asList(
-                    "employeeId", "name", "phone", "email", "jobposition", "tags",
-                    "anniversaryDate", "anniversaryType", "anniversaryTypeDesc",
-                    "anniversaryName", "anniversaryDescription"
-            );
-            csvBuilder.append(String.join(",", headers)).append("\n");
-            for (JsonNode person : persons) {
-                String employeeId = escapeForCsv(person.path("employeeId").asText());
-                String name = escapeForCsv(person.path("name").asText());
-                String phone = escapeForCsv(person.path("phone").asText());
-                String email = escapeForCsv(person.path("email").asText());
-                String jobPosition = escapeForCsv(person.path("jobposition").asText());
-                // Process tags array
-                JsonNode tags = person.path("tags");
-                StringBuilder tagsStr = new StringBuilder();
-                if (tags.isArray()) {
-                    for (int i = 0; i < tags.size(); i++) {
-                        if (i > 0) {
-                            tagsStr.append(";");
-                        }
-                        tagsStr.append(tags.get(i).asText());
-                    }
-                }
-                String tagsFormatted = escapeForCsv(tagsStr.toString());
-                // Process anniversaries array
-                JsonNode anniversaries = person.path("anniversaries");
-                if (anniversaries.isArray() && anniversaries.size() > 0) {
-                    for (JsonNode anniv : anniversaries) {
-                        String annivDate = escapeForCsv(anniv.path("date").asText());
-                        // Expand the type node into two separate CSV columns:
-                        String annivTypeName = escapeForCsv(anniv.path("type").path("name").asText());
-                        String annivTypeDesc = escapeForCsv(anniv.path("type").path("description").asText());
-                        String annivName = escapeForCsv(anniv.path("name").asText());
-                        String annivDescription = escapeForCsv(anniv.path("description").asText());
-
-                        csvBuilder.append(String.join(",",
-                                        employeeId, name, phone, email, jobPosition, tagsFormatted,
-                                        annivDate, annivTypeName, annivTypeDesc, annivName, annivDescription))
-                                .append("\n");
-                    }
-                } else {
-                    // No anniversaries: Insert a single row with empty anniversary fields
-                    csvBuilder.append(String.join(",",
-                                    employeeId, name, phone, email, jobPosition, tagsFormatted,
-                                    "", "", "", "", ""))
-                            .append("\n");
-                }
+    public String toCsv(JsonSerializableAddressBook addressBook) throws IOException {
+        validator.validateForWrite(addressBook);
+        StringWriter csvWriter = new StringWriter();
+        writeHeader(csvWriter);
+        for (JsonAdaptedPerson person : addressBook.getPersons()) {
+            StringJoiner tags = new StringJoiner(";");
+            for (JsonAdaptedTag tag : person.getTags()) {
+                tags.add(tag.getTagName());
+            }
+            List<Anniversary> anniversaries = new ArrayList<>();
+            for (JsonAdaptedAnniversary anniversary : person.getAnniversaries()) {
+                anniversaries.add(anniversary.toModelType());
+            }
+            writePersonRows(csvWriter, new String[] {person.getEmployeeId(), person.getName(), person.getPhone(),
+                person.getEmail(), person.getJobposition(), tags.toString()}, anniversaries);
+        }
+        return csvWriter.toString();
+    }
+
+    /**
+     * Writes {@code employees} to {@code csvWriter} in CSV format, one row at a time.
+     * The writer is not closed.
+     * @param employees The employees to write.
+     * @param csvWriter The writer of the CSV data.
+     * @throws IOException If the CSV data cannot be written.
+     */
+    public void toCsv(List<Employee> employees, Writer csvWriter) throws IOException {
+        validator.validateForWrite(employees);
+        writeHeader(csvWriter);
+        for (Employee employee : employees) {
+            StringJoiner tags = new StringJoiner(";");
+            for (Tag tag : employee.getTags()) {
+                tags.add(tag.tagName);
             }
+            writePersonRows(csvWriter, new String[] {employee.getEmployeeId().value, employee.getName().fullName,
+                employee.getPhone().value, employee.getEmail().value, employee.getJobPosition().value,
+                tags.toString()}, employee.getAnniversaries());
+        }
+    }
+
+    private static void writeHeader(Writer csvWriter) throws IOException {
+        csvWriter.write(String.join(",", CSV_FIELDS));
+        csvWriter.write('\n');
+    }
+
+    /**
+     * Writes one row for each anniversary of a person, or a single row with empty anniversary fields if the
+     * person has none. Each row starts with {@code personFields}.
+     */
+    private static void writePersonRows(Writer csvWriter, String[] personFields, List<Anniversary> anniversaries)
+            throws IOException {
+        if (anniversaries.isEmpty()) {
+            writeFields(csvWriter, personFields);
+            csvWriter.write(EMPTY_ANNIVERSARY_FIELDS);
+            csvWriter.write('\n');
+            return;
+        }
+        for (Anniversary anniversary : anniversaries) {
+            writeFields(csvWriter, personFields);
+            csvWriter.write(',');
+            writeField(csvWriter, anniversary.getDate());
+            csvWriter.write(',');
+            // Expand the type into two separate CSV columns
+            AnniversaryType type = anniversary.getType();
+            writeField(csvWriter, type == null ? "" : type.getName());
+            csvWriter.write(',');
+            writeField(csvWriter, type == null ? "" : type.getDescription());
+            csvWriter.write(',');
+            writeField(csvWriter, anniversary.getName());
+            csvWriter.write(',');
+            writeField(csvWriter, anniversary.getDescription());
+            csvWriter.write('\n');
         }
-        return csvBuilder.toString();
     }
 
+    private static void writeFields(Writer csvWriter, String[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                csvWriter.write(',');
+            }
+            writeField(csvWriter, fields[i]);
+        }
+    }
 
     /**
-     * Escapes values for CSV output.
-     * Ensures proper formatting by handling commas, quotes, and newlines.
+     * Writes a value escaped for CSV output, directly to {@code csvWriter}.
+     * Ensures proper formatting by handling commas, quotes, and newlines; an empty value is written as {@code ""}.
      */
-    private String escapeForCsv(String value) {
-        if (value == null || value.isEmpty()) {
-            return "\"\"";
+    private static void writeField(Writer csvWriter, Object value) throws IOException {
+        String text = String.valueOf(value);
+        if (text.isEmpty()) {
+            csvWriter.write("\"\"");
+            return;
         }
 
         // Escape quotes by doubling them and wrap in quotes if necessary
-        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
-            return "\"" + value.replace("\"", "\"\"") + "\"";
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0) {
+            csvWriter.write(text);
+            return;
+        }
+        csvWriter.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                csvWriter.write('"');
+            }
+            csvWriter.write(c);
         }
-        return value;
+        csvWriter.write('"');
     }
 
     /**
@@ -139,36 +201,145 @@ public class JsonCsvConverter {
      */
     public <T> T fromCsv(String csvData, Class<T> clazz) throws IOException, CommandException {
         validator.validateForRead(csvData);
+        return fromCsv(new StringReader(csvData), clazz);
+    }
 
+    /**
+     * Converts CSV data read from {@code csvReader} to an object, one record at a time.
+     * The reader is not closed.
+     * @param csvReader The reader of the CSV data to convert.
+     * @param clazz The class of the object to convert to.
+     * @param <T> The type of the object to convert to.
+     * @return The object represented by the CSV data.
+     * @throws IOException If the CSV data cannot be read or converted.
+     */
+    public <T> T fromCsv(Reader csvReader, Class<T> clazz) throws IOException, CommandException {
         // For JsonSerializableAddressBook, use special parser
         if (clazz.equals(JsonSerializableAddressBook.class)) {
-            return parseAddressBookCsv(csvData, clazz);
+            return parseAddressBookCsv(new CsvReader(csvReader), clazz);
         }
 
         throw new IOException("Unsupported conversion from CSV to " + clazz.getName());
     }
 
+    /**
+     * Converts the CSV file at {@code csvFile} to employees, one per record, parsing and validating chunks of the
+     * file in parallel on {@code pool}. The employees are in the same order as the records in the file, and the
+     * first invalid record in the file is the one reported. Only as many chunks as {@code pool} runs at once are
+     * read into memory at a time, so the file itself is never held in memory as a whole.
+     * @param csvFile The CSV file to convert.
+     * @param pool The pool to parse and validate the chunks of the file on.
+     * @return The employees represented by the records of the CSV file.
+     * @throws IOException If the file cannot be read or converted.
+     * @throws CommandException If the CSV header is invalid.
+     * @throws IllegalValueException If a record violates the data constraints of an employee.
+     */
+    public List<Employee> toEmployees(Path csvFile, ForkJoinPool pool)
+            throws IOException, CommandException, IllegalValueException {
+        return toEmployees(csvFile, pool, CHUNK_SIZE);
+    }
+
+    /**
+     * Similar to {@link #toEmployees(Path, ForkJoinPool)}, with chunks of about {@code chunkSize} bytes.
+     */
+    List<Employee> toEmployees(Path csvFile, ForkJoinPool pool, int chunkSize)
+            throws IOException, CommandException, IllegalValueException {
+        requireNonNull(csvFile);
+        try (FileChannel csvChannel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            return toEmployees(csvChannel, pool, chunkSize);
+        }
+    }
+
+    /**
+     * Similar to {@link #toEmployees(Path, ForkJoinPool, int)}, for the CSV file read from {@code csvChannel},
+     * which is at its start. The channel is not closed.
+     */
+    List<Employee> toEmployees(FileChannel csvChannel, ForkJoinPool pool, int chunkSize)
+            throws IOException, CommandException, IllegalValueException {
+        requireNonNull(csvChannel);
+        requireNonNull(pool);
+
+        // The chunks are found in one pass over the file, and each chunk task reads its own bytes into the heap
+        // rather than mapping them, so that the file can be deleted or replaced right after.
+        CsvChunks csvChunks = new CsvChunks(csvChannel, chunkSize);
+        long firstChunkEnd = csvChunks.nextChunkEnd();
+        // The first chunk starts with the header, which is needed to parse every chunk.
+        CsvReader firstChunkReader = new CsvReader(decode(readChunk(csvChannel, 0, firstChunkEnd)));
+        CsvColumns columns = readColumns(firstChunkReader);
+
+        Deque<ForkJoinTask<ConvertedChunk>> chunkTasks = new ArrayDeque<>();
+        List<Employee> employees = new ArrayList<>();
+        try {
+            chunkTasks.add(pool.submit(() -> readEmployees(firstChunkReader, columns)));
+            long chunkStart = firstChunkEnd;
+            for (long chunkEnd = csvChunks.nextChunkEnd(); chunkEnd >= 0; chunkEnd = csvChunks.nextChunkEnd()) {
+                // The oldest chunk is converted before another is read, which bounds the chunks held in memory.
+                if (chunkTasks.size() >= pool.getParallelism()) {
+                    employees.addAll(chunkTasks.remove().join().getEmployees());
+                }
+                long start = chunkStart;
+                long end = chunkEnd;
+                chunkTasks.add(pool.submit(() -> readEmployees(csvChannel, start, end, columns)));
+                chunkStart = chunkEnd;
+            }
+            while (!chunkTasks.isEmpty()) {
+                employees.addAll(chunkTasks.remove().join().getEmployees());
+            }
+        } finally {
+            // Left over only if a chunk failed, in which case the chunks after it are not needed.
+            chunkTasks.forEach(chunkTask -> chunkTask.cancel(false));
+        }
+        return employees;
+    }
+
+    /**
+     * Reads the bytes of {@code csvChannel} from {@code start} up to {@code end} into a heap buffer.
+     */
+    private static ByteBuffer readChunk(FileChannel csvChannel, long start, long end) throws IOException {
+        if (end - start > MAX_CHUNK_SIZE) {
+            throw new IOException("The CSV file has a record too large to be read.");
+        }
+        ByteBuffer chunk = ByteBuffer.allocate((int) (end - start));
+        while (chunk.hasRemaining()) {
+            if (csvChannel.read(chunk, start + chunk.position()) < 0) {
+                throw new EOFException("The CSV file was shortened while it was being read.");
+            }
+        }
+        return chunk.flip();
+    }
+
+    /**
+     * Decodes a chunk of UTF-8 bytes, failing on malformed input as {@link Files#newBufferedReader(Path)} does.
+     */
+    private static Reader decode(ByteBuffer chunk) throws CharacterCodingException {
+        CharBuffer chars = StandardCharsets.UTF_8.newDecoder().decode(chunk);
+        return new CharArrayReader(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining());
+    }
+
     /**
      * Parses CSV data into a JsonSerializableAddressBook object.
      * The resulting JsonSerializableAddressBook Object is unsafe. calling TomodelType can cause errors
      * this is because there may exist Persons with the same employeeId but different details
-     * @param csvData The CSV data to parse.
+     * @param csvReader The reader of the CSV data to parse.
      * @param clazz The class of the object to convert to.
      * @param <T> The type of the object to convert to.
      * @return The object represented by the CSV data.
      * @throws IOException If the CSV data cannot be converted.
      * @throws CommandException If the CSV data is invalid.
      */
-    private <T> T parseAddressBookCsv(String csvData, Class<T> clazz) throws IOException, CommandException {
-        // Normalize Windows line endings to Unix style
-        csvData = csvData.replace("\r\n", "\n");
-        String[] lines = csvData.split("\n");
-        if (lines.length < 1) {
-            throw new IOException("CSV data is empty");
-        }
+    private <T> T parseAddressBookCsv(CsvReader csvReader, Class<T> clazz) throws IOException, CommandException {
+        CsvColumns columns = readColumns(csvReader);
+        return clazz.cast(new JsonSerializableAddressBook(readPersons(csvReader, columns)));
+    }
 
-        // Parse header line
-        String[] headers = parseCsvLine(lines[0]);
+    /**
+     * Reads the header record and returns the column of each field.
+     * @throws CommandException If there is no header or it lacks a required field.
+     */
+    private CsvColumns readColumns(CsvReader csvReader) throws IOException, CommandException {
+        // Parse header record
+        String[] headers = readNonBlankRecord(csvReader);
+        validator.validateHeaderForRead(headers);
 
         // Detect a shifted header order.
         // Expected order: EMPLOYEEID, NAME, PHONE, EMAIL, JOBPOSITION, TAGS,
@@ -187,66 +358,103 @@ public class JsonCsvConverter {
             headers = correctedHeaders;
         }
 
-        // Build a lookup for header indices (this method also checks for required fields)
-        Map<String, Integer> headerIndices = getAndCheckHeaderField(headers);
-
-        // Instead of grouping rows by employeeId, create a persons array node with one entry per row.
-        ArrayNode personsArray = mapper.createArrayNode();
+        // Look up the column of each field once (this method also checks for required fields)
+        return new CsvColumns(getAndCheckHeaderField(headers), headers.length);
+    }
 
-        for (int i = 1; i < lines.length; i++) {
-            String[] values = parseCsvLine(lines[i]);
-            if (values.length < headers.length) {
+    /**
+     * Reads the remaining records into one person each, in order.
+     */
+    private static List<JsonAdaptedPerson> readPersons(CsvReader csvReader, CsvColumns columns) throws IOException {
+        // Instead of grouping rows by employeeId, create one person per row.
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (String[] values = csvReader.readRecord(); values != null; values = csvReader.readRecord()) {
+            // Blank lines and incomplete rows are skipped.
+            if (values.length < columns.count) {
                 continue;
             }
+            persons.add(toAdaptedPerson(values, columns));
+        }
+        return persons;
+    }
 
-            ObjectNode personNode = mapper.createObjectNode();
-            personNode.put(EMPLOYEEID, values[headerIndices.get(EMPLOYEEID)].trim());
-            personNode.put(NAME, values[headerIndices.get(NAME)].trim());
-            personNode.put(PHONE, values[headerIndices.get(PHONE)].trim());
-            personNode.put(EMAIL, values[headerIndices.get(EMAIL)].trim());
-            personNode.put(JOBPOSITION, values[headerIndices.get(JOBPOSITION)].trim());
-
-            // Process tags (split by semicolon) and trim each tag
-            String tagsStr = values[headerIndices.get(TAGS)].trim();
-            ArrayNode tagsArray = mapper.createArrayNode();
-            if (!tagsStr.isEmpty()) {
-                for (String tag : tagsStr.split(";")) {
-                    tagsArray.add(tag.trim());
+    /**
+     * Reads the remaining records into one employee each, in order, stopping at the first record that cannot be
+     * read or converted. Being run on other threads, this returns that failure instead of throwing it.
+     */
+    private static ConvertedChunk readEmployees(CsvReader csvReader, CsvColumns columns) {
+        ConvertedChunk convertedChunk = new ConvertedChunk();
+        try {
+            for (String[] values = csvReader.readRecord(); values != null; values = csvReader.readRecord()) {
+                // Blank lines and incomplete rows are skipped.
+                if (values.length < columns.count) {
+                    continue;
                 }
+                convertedChunk.employees.add(toAdaptedPerson(values, columns).toModelType());
             }
-            personNode.set(TAGS, tagsArray);
-
-            // Process anniversary columns from this row, trimming each value
-            String annivDate = values[headerIndices.get(ANNIVERSARYDATE)].trim();
-            String annivType = values[headerIndices.get(ANNIVERSARYTYPE)].trim();
-            String annivTypeDesc = values[headerIndices.get(ANNIVERSARYTYPEDESC)].trim();
-            String annivName = values[headerIndices.get(ANNIVERSARYNAME)].trim();
-            String annivDescription = values[headerIndices.get(ANNIVERSARYDESCRIPTION)].trim();
-
-            ArrayNode annivsArray = mapper.createArrayNode();
-            // Only add an anniversary if at least one field is non-empty
-            if (!annivDate.isEmpty() || !annivType.isEmpty() || !annivName.isEmpty() || !annivDescription.isEmpty()) {
-                ObjectNode annivNode = mapper.createObjectNode();
-                annivNode.put(DATE, annivDate);
-                // Create proper structure for anniversary type (oversight)
-                ObjectNode typeNode = mapper.createObjectNode();
-                typeNode.put("name", annivType);
-                typeNode.put("description", annivTypeDesc); // Default empty description
-                annivNode.set(TYPE, typeNode);
-                annivNode.put(NAME, annivName);
-                annivNode.put(DESCRIPTION, annivDescription);
-                annivsArray.add(annivNode);
+        } catch (IOException | IllegalValueException e) {
+            convertedChunk.failure = e;
+        }
+        return convertedChunk;
+    }
+
+    /**
+     * Similar to {@link #readEmployees(CsvReader, CsvColumns)}, for the records in the UTF-8 bytes of
+     * {@code csvChannel} from {@code start} up to {@code end}.
+     */
+    private static ConvertedChunk readEmployees(FileChannel csvChannel, long start, long end, CsvColumns columns) {
+        try {
+            return readEmployees(new CsvReader(decode(readChunk(csvChannel, start, end))), columns);
+        } catch (IOException e) {
+            ConvertedChunk convertedChunk = new ConvertedChunk();
+            convertedChunk.failure = e;
+            return convertedChunk;
+        }
+    }
+
+    private static String[] readNonBlankRecord(CsvReader csvReader) throws IOException {
+        String[] record = csvReader.readRecord();
+        while (record != null && record.length == 1 && record[0].isBlank()) {
+            record = csvReader.readRecord();
+        }
+        return record;
+    }
+
+    private static JsonAdaptedPerson toAdaptedPerson(String[] values, CsvColumns columns) throws IOException {
+        // Process tags (split by semicolon) and trim each tag
+        String tagsStr = values[columns.tags].trim();
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        if (!tagsStr.isEmpty()) {
+            for (String tag : tagsStr.split(";")) {
+                tags.add(new JsonAdaptedTag(tag.trim()));
             }
-            personNode.set(ANNIVERSARIES, annivsArray);
+        }
+
+        // Process anniversary columns from this row, trimming each value
+        String annivDate = values[columns.anniversaryDate].trim();
+        String annivType = values[columns.anniversaryType].trim();
+        String annivTypeDesc = values[columns.anniversaryTypeDesc].trim();
+        String annivName = values[columns.anniversaryName].trim();
+        String annivDescription = values[columns.anniversaryDescription].trim();
 
-            personsArray.add(personNode);
+        List<JsonAdaptedAnniversary> anniversaries = new ArrayList<>(1);
+        // Only add an anniversary if at least one field is non-empty
+        if (!annivDate.isEmpty() || !annivType.isEmpty() || !annivName.isEmpty() || !annivDescription.isEmpty()) {
+            anniversaries.add(new JsonAdaptedAnniversary(parseDate(annivDate),
+                    new JsonAdaptedAnniversaryType(annivType, annivTypeDesc), annivDescription, annivName));
         }
 
-        // Build the root node with the persons array
-        ObjectNode rootNode = mapper.createObjectNode();
-        rootNode.set(PERSONS, personsArray);
+        return new JsonAdaptedPerson(values[columns.employeeId].trim(), values[columns.name].trim(),
+                values[columns.phone].trim(), values[columns.email].trim(), values[columns.jobPosition].trim(),
+                tags, anniversaries);
+    }
 
-        return mapper.convertValue(rootNode, clazz);
+    private static LocalDate parseDate(String date) throws IOException {
+        try {
+            return MultiFormatLocalDateDeserializer.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IOException(e.getMessage(), e);
+        }
     }
 
     private static Map<String, Integer> getAndCheckHeaderField(String[] headers) throws CommandException {
@@ -255,11 +463,7 @@ public class JsonCsvConverter {
             headerIndices.put(headers[j], j);
         }
         // Now require the new anniversaryTypeDesc field as well.
-        String[] requiredFields = {
-            EMPLOYEEID, NAME, PHONE, EMAIL, JOBPOSITION, TAGS,
-            ANNIVERSARYDATE, ANNIVERSARYTYPE, ANNIVERSARYTYPEDESC, ANNIVERSARYNAME, ANNIVERSARYDESCRIPTION
-        };
-        for (String field : requiredFields) {
+        for (String field : CSV_FIELDS) {
             if (!headerIndices.containsKey(field)) {
                 throw new CommandException("CSV missing required field: " + field);
             }
@@ -268,45 +472,62 @@ public class JsonCsvConverter {
     }
 
 
-    String[] parseCsvLine(String line) {
-        List<String> result = new ArrayList<>();
-        boolean inQuotes = false;
-        StringBuilder currentField = new StringBuilder();
+    String[] parseCsvLine(String line) throws IOException {
+        String[] record = new CsvReader(new StringReader(line)).readRecord();
+        return record == null ? new String[] {""} : record;
+    }
 
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
+    /**
+     * The employees converted from the records of a chunk, up to the first record that failed, if any.
+     */
+    private static class ConvertedChunk {
+        private final List<Employee> employees = new ArrayList<>();
+        private Exception failure;
 
-            if (c == '"') {
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    // Escaped quote
-                    currentField.append('"');
-                    i++;
-                } else {
-                    // Toggle quote mode
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {
-                // End of field
-                result.add(unescapeFromCsv(currentField.toString()));
-                currentField = new StringBuilder();
-            } else {
-                currentField.append(c);
+        /**
+         * Returns the employees, or throws the failure that stopped the conversion of the chunk.
+         */
+        List<Employee> getEmployees() throws IOException, IllegalValueException {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
             }
+            if (failure instanceof IllegalValueException) {
+                throw (IllegalValueException) failure;
+            }
+            return employees;
         }
-
-        result.add(unescapeFromCsv(currentField.toString()));
-        return result.toArray(new String[0]);
     }
 
     /**
-     * Unescapes a field from CSV format.
-     * @param field The field to unescape.
-     * @return The unescaped field.
+     * The column of each field in the records of an address book CSV, and the number of columns.
      */
-    private String unescapeFromCsv(String field) {
-        if (field.startsWith("\"") && field.endsWith("\"")) {
-            field = field.substring(1, field.length() - 1);
+    private static class CsvColumns {
+        private final int employeeId;
+        private final int name;
+        private final int phone;
+        private final int email;
+        private final int jobPosition;
+        private final int tags;
+        private final int anniversaryDate;
+        private final int anniversaryType;
+        private final int anniversaryTypeDesc;
+        private final int anniversaryName;
+        private final int anniversaryDescription;
+        private final int count;
+
+        CsvColumns(Map<String, Integer> headerIndices, int count) {
+            employeeId = headerIndices.get(EMPLOYEEID);
+            name = headerIndices.get(NAME);
+            phone = headerIndices.get(PHONE);
+            email = headerIndices.get(EMAIL);
+            jobPosition = headerIndices.get(JOBPOSITION);
+            tags = headerIndices.get(TAGS);
+            anniversaryDate = headerIndices.get(ANNIVERSARYDATE);
+            anniversaryType = headerIndices.get(ANNIVERSARYTYPE);
+            anniversaryTypeDesc = headerIndices.get(ANNIVERSARYTYPEDESC);
+            anniversaryName = headerIndices.get(ANNIVERSARYNAME);
+            anniversaryDescription = headerIndices.get(ANNIVERSARYDESCRIPTION);
+            this.count = count;
         }
-        return field.replace("\"\"", "\"");
     }
 }
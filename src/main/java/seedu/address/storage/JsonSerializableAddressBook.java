@@ -1,12 +1,13 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -27,12 +28,26 @@ public class JsonSerializableAddressBook {
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
+    /** The last journal entry included in this address book, or 0 if it was not written by a journal. */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long journalSequence;
+
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
+    public JsonSerializableAddressBook(List<JsonAdaptedPerson> persons) {
+        this(persons, 0);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons, which include every journal entry
+     * up to {@code journalSequence}.
+     */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                       @JsonProperty("journalSequence") long journalSequence) {
         this.persons.addAll(persons);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -41,7 +56,11 @@ public class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getEmployeeList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this(toAdaptedPersons(source.getEmployeeList()), 0);
+    }
+
+    private static List<JsonAdaptedPerson> toAdaptedPersons(List<Employee> employees) {
+        return employees.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList());
     }
 
     /**
@@ -63,10 +82,11 @@ public class JsonSerializableAddressBook {
 
     /**
      * Aggregates persons with the same name and merges their anniversaries.
+     * The aggregated persons are in the order their first records appear in.
      * @return a new JsonSerializableAddressBook with aggregated persons
      */
     public JsonSerializableAddressBook aggregatePersons() {
-        Map<PersonKey, List<JsonAdaptedAnniversary>> groupedAnniversaries = new HashMap<>();
+        Map<PersonKey, List<JsonAdaptedAnniversary>> groupedAnniversaries = new LinkedHashMap<>();
 
         for (JsonAdaptedPerson person : persons) {
             PersonKey key = PersonKey.from(person);
@@ -6,6 +6,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
  * Validates the input data for conversion.
  */
 public class QueryValidator {
+    private static final String MESSAGE_EMPTY_CSV = "CSV data cannot be empty.";
+
     /**
      * Validates the object to be converted.
      * @param obj The object to validate.
@@ -21,7 +23,16 @@ public class QueryValidator {
      */
     public void validateForRead(String csvData) throws CommandException {
         if (csvData == null || csvData.trim().isEmpty()) {
-            throw new CommandException("CSV data cannot be empty.");
+            throw new CommandException(MESSAGE_EMPTY_CSV);
+        }
+    }
+    /**
+     * Validates the header record of CSV data being read as a stream.
+     * @param headers The header fields, or null if the data has no records.
+     */
+    public void validateHeaderForRead(String[] headers) throws CommandException {
+        if (headers == null) {
+            throw new CommandException(MESSAGE_EMPTY_CSV);
         }
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves the address books passed to {@link #saveAddressBook(ReadOnlyAddressBook)} on a background thread from
+     * now on, instead of on the calling thread. The exceptions of failed saves are passed to {@code failureHandler}
+     * on the saving thread.
+     */
+    void startBackgroundSaving(Consumer<IOException> failureHandler);
+
+    /**
+     * Waits for the pending background saves to finish, and saves on the calling thread from now on.
+     */
+    void stopBackgroundSaving();
+
 }
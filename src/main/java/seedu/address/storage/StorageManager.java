@@ -1,8 +1,12 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -19,13 +23,27 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final long saveGroupCommitWindowMillis;
+    private AddressBookSaver backgroundSaver;
+    private volatile ReadOnlyAddressBook lastSavedAddressBook;
+    private long lastSavedVersion;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * whose background saves wait {@code saveGroupCommitWindowMillis} milliseconds for further changes.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            long saveGroupCommitWindowMillis) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveGroupCommitWindowMillis = saveGroupCommitWindowMillis;
     }
 
     // ================ UserPrefs methods ==============================
@@ -53,6 +71,11 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    @Override
+    public List<Path> getAuxiliaryFilePaths(Path filePath) {
+        return addressBookStorage.getAuxiliaryFilePaths(filePath);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
@@ -64,9 +87,35 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.snapshotAddressBook(addressBook);
+    }
+
+    /**
+     * Saves {@code addressBook} to the data file, unless it is the address book saved last and it has not
+     * changed since, so that commands that do not modify the address book cost no disk writes.
+     * If background saving is on, a snapshot of {@code addressBook} is saved in the background instead.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        long version = addressBook.getVersion();
+        if (addressBook == lastSavedAddressBook && version == lastSavedVersion) {
+            logger.fine("Data file is up to date, skipping save");
+            return;
+        }
+
+        if (backgroundSaver != null) {
+            // Recorded before the save is requested, so that a failure reported by the saver always clears it.
+            lastSavedAddressBook = addressBook;
+            lastSavedVersion = version;
+            backgroundSaver.requestSave(addressBook);
+            return;
+        }
+
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        lastSavedAddressBook = addressBook;
+        lastSavedVersion = version;
     }
 
     @Override
@@ -75,4 +124,23 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void startBackgroundSaving(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        stopBackgroundSaving();
+        backgroundSaver = new AddressBookSaver(addressBookStorage, saveGroupCommitWindowMillis, e -> {
+            // The failed save may be the latest one, so the next save must not be skipped.
+            lastSavedAddressBook = null;
+            failureHandler.accept(e);
+        });
+    }
+
+    @Override
+    public void stopBackgroundSaving() {
+        if (backgroundSaver != null) {
+            backgroundSaver.stop();
+            backgroundSaver = null;
+        }
+    }
+
 }
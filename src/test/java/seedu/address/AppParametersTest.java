@@ -13,6 +13,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 import javafx.application.Application;
+import seedu.address.commons.core.StorageBackend;
 
 public class AppParametersTest {
 
@@ -39,10 +40,24 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validMigrationTarget_success() {
+        parametersStub.namedParameters.put("migrate-storage", "binary_snapshot");
+        expected.setMigrationTarget(StorageBackend.BINARY_SNAPSHOT);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidMigrationTarget_success() {
+        parametersStub.namedParameters.put("migrate-storage", "floppy");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", migrationTarget=" + appParameters.getMigrationTarget() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +81,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different migration target -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setMigrationTarget(StorageBackend.JOURNALED);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,68 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.StorageBackend;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.storage.AddressBookStorageBackends;
+
+public class MainAppTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void initConfig_nonPositiveJournalCompactionThreshold_defaultThresholdUsed() throws IOException {
+        Config config = new Config();
+        config.setAddressBookStorageBackend(StorageBackend.JOURNALED);
+        config.setJournalCompactionThreshold(0);
+
+        Config initializedConfig = initConfig(config);
+
+        assertEquals(Config.DEFAULT_JOURNAL_COMPACTION_THRESHOLD, initializedConfig.getJournalCompactionThreshold());
+        // Creating the storage used to fail on the threshold and stop the app from starting.
+        AddressBookStorageBackends.create(StorageBackend.JOURNALED, testFolder.resolve("data.json"),
+                initializedConfig);
+    }
+
+    @Test
+    public void initConfig_negativeCompactionThresholdWithDatabaseBackend_defaultThresholdUsed() throws IOException {
+        Config config = new Config();
+        config.setAddressBookStorageBackend(StorageBackend.DATABASE);
+        config.setJournalCompactionThreshold(-1);
+
+        Config initializedConfig = initConfig(config);
+
+        assertEquals(Config.DEFAULT_JOURNAL_COMPACTION_THRESHOLD, initializedConfig.getJournalCompactionThreshold());
+        AddressBookStorageBackends.create(StorageBackend.DATABASE, testFolder.resolve("data.json"),
+                initializedConfig);
+    }
+
+    @Test
+    public void initConfig_negativeSaveGroupCommitWindow_defaultWindowUsed() throws IOException {
+        Config config = new Config();
+        config.setSaveGroupCommitWindowMillis(-1);
+
+        Config initializedConfig = initConfig(config);
+
+        assertEquals(Config.DEFAULT_SAVE_GROUP_COMMIT_WINDOW_MILLIS,
+                initializedConfig.getSaveGroupCommitWindowMillis());
+    }
+
+    /**
+     * Saves {@code config} to a config file and returns the config that {@code MainApp} starts with from that file.
+     */
+    private Config initConfig(Config config) throws IOException {
+        Path configFilePath = testFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+        return new MainApp().initConfig(configFilePath);
+    }
+
+}
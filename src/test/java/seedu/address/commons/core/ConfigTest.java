@@ -12,7 +12,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", undoHistoryLimit=" + config.getUndoHistoryLimit()
+                + ", addressBookStorageBackend=" + config.getAddressBookStorageBackend()
+                + ", journalCompactionThreshold=" + config.getJournalCompactionThreshold()
+                + ", saveGroupCommitWindowMillis=" + config.getSaveGroupCommitWindowMillis() + "}";
         assertEquals(expected, config.toString());
     }
 
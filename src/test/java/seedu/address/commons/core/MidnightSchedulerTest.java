@@ -0,0 +1,44 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+public class MidnightSchedulerTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MidnightScheduler(null, () -> { }));
+        assertThrows(NullPointerException.class, () -> new MidnightScheduler(Clock.systemUTC(), null));
+    }
+
+    @Test
+    public void getDelayUntilNextMidnight_midday_returnsTimeUntilEndOfDay() {
+        Clock clock = clockAt(LocalDateTime.of(2025, 6, 10, 12, 30), ZoneOffset.UTC);
+        assertEquals(Duration.ofHours(11).plusMinutes(30), MidnightScheduler.getDelayUntilNextMidnight(clock));
+    }
+
+    @Test
+    public void getDelayUntilNextMidnight_atMidnight_returnsOneDay() {
+        Clock clock = clockAt(LocalDateTime.of(2025, 12, 31, 0, 0), ZoneOffset.UTC);
+        assertEquals(Duration.ofDays(1), MidnightScheduler.getDelayUntilNextMidnight(clock));
+    }
+
+    @Test
+    public void getDelayUntilNextMidnight_usesClockTimeZone() {
+        ZoneId singapore = ZoneId.of("Asia/Singapore");
+        Clock clock = clockAt(LocalDateTime.of(2025, 6, 10, 23, 0), singapore);
+        assertEquals(Duration.ofHours(1), MidnightScheduler.getDelayUntilNextMidnight(clock));
+    }
+
+    private static Clock clockAt(LocalDateTime dateTime, ZoneId zone) {
+        return Clock.fixed(dateTime.atZone(zone).toInstant(), zone);
+    }
+}
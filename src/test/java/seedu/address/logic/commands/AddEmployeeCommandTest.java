@@ -9,13 +9,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import javafx.util.Pair;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -25,6 +30,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.EmployeeIdPrefixMatch;
 import seedu.address.model.reminder.Reminder;
 import seedu.address.testutil.EmployeeBuilder;
 
@@ -152,11 +158,26 @@ public class AddEmployeeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getEmployeeIdPrefixConflictCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Pair<EmployeeId, EmployeeId>> getEmployeeIdPrefixConflictingPairs() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasDuplicateEmployeeDetails(Employee employee) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<List<Employee>> getDuplicateEmployeeDetailGroups() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteEmployee(Employee target) {
             throw new AssertionError("This method should not be called.");
@@ -167,6 +188,11 @@ public class AddEmployeeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setAndAddEmployees(Map<Employee, Employee> replacements, List<Employee> employeesToAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Employee> getFilteredEmployeeList() {
             throw new AssertionError("This method should not be called.");
@@ -182,6 +208,16 @@ public class AddEmployeeCommandTest {
             return null;
         }
 
+        @Override
+        public Optional<Employee> getEmployeeWithId(EmployeeId employeeId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public EmployeeIdPrefixMatch resolveEmployeeIdPrefix(EmployeeId employeeIdPrefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredEmployeeList(Predicate<Employee> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -197,10 +233,40 @@ public class AddEmployeeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public LocalDate getToday() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void refreshToday() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void commitChanges() {
             // Stub implementation, no-op
         }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -253,5 +319,10 @@ public class AddEmployeeCommandTest {
         public ObservableList<Reminder> getReminderList() {
             return javafx.collections.FXCollections.observableArrayList(); // or stub list
         }
+
+        @Override
+        public LocalDate getToday() {
+            return LocalDate.now();
+        }
     }
 }
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DuplicatesCommand}.
+ */
+public class DuplicatesCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noDuplicates_showsNoDuplicatesMessage() {
+        assertCommandSuccess(new DuplicatesCommand(), model, DuplicatesCommand.MESSAGE_NO_DUPLICATES, expectedModel);
+    }
+
+    @Test
+    public void execute_duplicateDetails_listsDuplicateGroups() {
+        Employee aliceCopy = new EmployeeBuilder(ALICE).withEmployeeId("aaaaaaaa").build();
+        Employee bensonCopy = new EmployeeBuilder(BENSON).withEmployeeId("bbbbbbbb").build();
+        model.addEmployee(aliceCopy);
+        model.addEmployee(bensonCopy);
+        expectedModel.addEmployee(aliceCopy);
+        expectedModel.addEmployee(bensonCopy);
+        expectedModel.updateFilteredEmployeeList(employee -> Arrays.asList(ALICE, aliceCopy, BENSON, bensonCopy)
+                .contains(employee));
+
+        String expectedMessage = String.format(DuplicatesCommand.MESSAGE_DUPLICATES_FOUND, 2,
+                "1. " + ALICE.getName() + ": " + ALICE.getEmployeeId() + " " + aliceCopy.getEmployeeId() + "\n"
+                + "2. " + BENSON.getName() + ": " + BENSON.getEmployeeId() + " " + bensonCopy.getEmployeeId() + "\n");
+        assertCommandSuccess(new DuplicatesCommand(), model, expectedMessage, expectedModel);
+        assertEquals(4, model.getFilteredEmployeeList().size());
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+class RedoCommandTest {
+
+    private Model model;
+    private RedoCommand redoCommand;
+
+    @BeforeEach
+    void setUp() {
+        model = new ModelManager();
+        redoCommand = new RedoCommand();
+    }
+
+    @Test
+    void execute_redoAvailable_success() throws CommandException {
+        Employee validEmployee = new EmployeeBuilder().build();
+        model.commitChanges();
+        model.addEmployee(validEmployee);
+        new UndoCommand().execute(model);
+        assertTrue(model.getFilteredEmployeeList().isEmpty());
+
+        CommandResult result = redoCommand.execute(model);
+
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertTrue(model.hasEmployee(validEmployee));
+    }
+
+    @Test
+    void execute_noRedoAvailable_failure() throws CommandException {
+        // Nothing has been undone, so redo should not be possible
+        CommandResult result = redoCommand.execute(model);
+
+        assertEquals(RedoCommand.MESSAGE_FAILURE, result.getFeedbackToUser());
+    }
+
+    @Test
+    void execute_newChangeAfterUndo_failure() throws CommandException {
+        model.commitChanges();
+        model.addEmployee(new EmployeeBuilder().build());
+        new UndoCommand().execute(model);
+        model.commitChanges();
+
+        CommandResult result = redoCommand.execute(model);
+
+        assertEquals(RedoCommand.MESSAGE_FAILURE, result.getFeedbackToUser());
+    }
+}
@@ -14,7 +14,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import javafx.collections.FXCollections;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.anniversary.Anniversary;
@@ -22,6 +21,7 @@ import seedu.address.model.anniversary.AnniversaryType;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.EmployeeIdPrefixMatch;
 import seedu.address.model.person.JobPosition;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
@@ -35,6 +35,7 @@ public class AddAnniversaryCommandTest {
     @BeforeEach
     public void setUp() {
         model = Mockito.mock(Model.class);
+        Mockito.when(model.getToday()).thenReturn(LocalDate.now());
         validEmployeeId = EmployeeId.fromString("00000000-0000-0000-0000-000000000001");
         validAnniversary = new Anniversary(
                 LocalDate.of(2025, 3, 13),
@@ -56,8 +57,8 @@ public class AddAnniversaryCommandTest {
     @Test
     public void execute_addValidAnniversary_success() throws Exception {
         // Arrange
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee));
+        Mockito.when(model.resolveEmployeeIdPrefix(validEmployeeId))
+                .thenReturn(EmployeeIdPrefixMatch.unique(baseEmployee));
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, validAnniversary);
 
         // Act
@@ -71,8 +72,8 @@ public class AddAnniversaryCommandTest {
     @Test
     public void execute_noMatchingEmployee_throwsCommandException() {
         // Arrange
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList());
+        Mockito.when(model.resolveEmployeeIdPrefix(validEmployeeId))
+                .thenReturn(EmployeeIdPrefixMatch.none());
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, validAnniversary);
 
         // Act & Assert
@@ -83,17 +84,8 @@ public class AddAnniversaryCommandTest {
     @Test
     public void execute_multipleEmployeesFound_throwsCommandException() {
         // Arrange
-        Employee secondEmployee = Employee.builder()
-                .employeeId(EmployeeId.fromString("11111111-1111-1111-1111-111111111111"))
-                .name(new Name("Bob"))
-                .phone(new Phone("87654321"))
-                .email(new Email("bob@example.com"))
-                .jobPosition(new JobPosition("Tester"))
-                .tags(new HashSet<>())
-                .anniversaries(new ArrayList<>())
-                .build();
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee, secondEmployee));
+        Mockito.when(model.resolveEmployeeIdPrefix(validEmployeeId))
+                .thenReturn(EmployeeIdPrefixMatch.ambiguous(2));
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, validAnniversary);
 
         // Act & Assert
@@ -115,8 +107,8 @@ public class AddAnniversaryCommandTest {
                 .tags(baseEmployee.getTags())
                 .anniversaries(existing)
                 .build();
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList(employeeWithAnniversary));
+        Mockito.when(model.resolveEmployeeIdPrefix(validEmployeeId))
+                .thenReturn(EmployeeIdPrefixMatch.unique(employeeWithAnniversary));
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, validAnniversary);
 
         // Act & Assert
@@ -133,8 +125,8 @@ public class AddAnniversaryCommandTest {
                 "" // Name
         );
 
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee));
+        Mockito.when(model.resolveEmployeeIdPrefix(validEmployeeId))
+                .thenReturn(EmployeeIdPrefixMatch.unique(baseEmployee));
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, minimalAnniversary);
 
         var result = command.execute(model);
@@ -171,8 +163,8 @@ public class AddAnniversaryCommandTest {
                 .anniversaries(existingList)
                 .build();
 
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList(personWithAnni));
+        Mockito.when(model.resolveEmployeeIdPrefix(validEmployeeId))
+                .thenReturn(EmployeeIdPrefixMatch.unique(personWithAnni));
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, newAnni);
 
         var result = command.execute(model);
@@ -185,8 +177,8 @@ public class AddAnniversaryCommandTest {
 
     @Test
     public void execute_addAnniversary_returnsNewPersonObject() throws Exception {
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(validEmployeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee));
+        Mockito.when(model.resolveEmployeeIdPrefix(validEmployeeId))
+                .thenReturn(EmployeeIdPrefixMatch.unique(baseEmployee));
         AddAnniversaryCommand command = new AddAnniversaryCommand(validEmployeeId, validAnniversary);
 
         command.execute(model);
@@ -8,14 +8,12 @@ import static seedu.address.logic.Messages.MESSAGE_MULTIPLE_EMPLOYEES_FOUND_WITH
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import javafx.collections.FXCollections;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -24,6 +22,7 @@ import seedu.address.model.anniversary.AnniversaryType;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Employee;
 import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.EmployeeIdPrefixMatch;
 import seedu.address.model.person.JobPosition;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
@@ -60,8 +59,8 @@ public class DeleteAnniversaryCommandTest {
 
     @Test
     void execute_deleteAnniversary_success() throws CommandException {
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(employeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee));
+        Mockito.when(model.resolveEmployeeIdPrefix(employeeId))
+                .thenReturn(EmployeeIdPrefixMatch.unique(baseEmployee));
         DeleteAnniversaryCommand cmd = new DeleteAnniversaryCommand(Index.fromOneBased(1), employeeId);
 
         String feedback = cmd.execute(model).getFeedbackToUser();
@@ -71,8 +70,8 @@ public class DeleteAnniversaryCommandTest {
 
     @Test
     void execute_noMatchingEmployee_throwsCommandException() {
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(employeeId))
-                .thenReturn(FXCollections.observableArrayList());
+        Mockito.when(model.resolveEmployeeIdPrefix(employeeId))
+                .thenReturn(EmployeeIdPrefixMatch.none());
         DeleteAnniversaryCommand cmd = new DeleteAnniversaryCommand(Index.fromOneBased(1), employeeId);
 
         CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
@@ -81,17 +80,8 @@ public class DeleteAnniversaryCommandTest {
 
     @Test
     void execute_multipleEmployeesFound_throwsCommandException() {
-        Employee otherEmployee = Employee.builder()
-                .employeeId(EmployeeId.fromString("11111111-1111-1111-1111-111111111111"))
-                .name(new Name("Second"))
-                .phone(new Phone("54321"))
-                .email(new Email("second@example.com"))
-                .jobPosition(new JobPosition("Tester2"))
-                .tags(new HashSet<>())
-                .anniversaries(Collections.singletonList(anniversaryOne))
-                .build();
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(employeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee, otherEmployee));
+        Mockito.when(model.resolveEmployeeIdPrefix(employeeId))
+                .thenReturn(EmployeeIdPrefixMatch.ambiguous(2));
         DeleteAnniversaryCommand cmd = new DeleteAnniversaryCommand(Index.fromOneBased(1), employeeId);
 
         CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
@@ -100,8 +90,8 @@ public class DeleteAnniversaryCommandTest {
 
     @Test
     void execute_outOfBoundsIndex_throwsCommandException() {
-        Mockito.when(model.getFullFilteredByEmployeeIdPrefixListFromData(employeeId))
-                .thenReturn(FXCollections.observableArrayList(baseEmployee));
+        Mockito.when(model.resolveEmployeeIdPrefix(employeeId))
+                .thenReturn(EmployeeIdPrefixMatch.unique(baseEmployee));
         DeleteAnniversaryCommand cmd = new DeleteAnniversaryCommand(Index.fromOneBased(999), employeeId);
 
         CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
@@ -20,8 +20,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,8 +32,6 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
@@ -42,6 +41,7 @@ import seedu.address.model.person.Employee;
 import seedu.address.storage.JsonAdaptedPerson;
 import seedu.address.storage.JsonSerializableAddressBook;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.EmployeeBuilder;
 
 @ExtendWith(MockitoExtension.class)
 public class ImportCommandTest {
@@ -85,28 +85,12 @@ public class ImportCommandTest {
                      mockStatic(AddressBookFormatConverter.class)) {
             // Setup base mocks
             formatConverterMock.when(() -> AddressBookFormatConverter.importFromCsv(csvFilePathNormalCase))
-                    .thenReturn(jsonSerializableAddressBook);
-
-            // Create mock JsonAdaptedPerson objects
-            JsonAdaptedPerson mockJsonPerson1 = mock(JsonAdaptedPerson.class);
-            JsonAdaptedPerson mockJsonPerson2 = mock(JsonAdaptedPerson.class);
-            List<JsonAdaptedPerson> mockJsonPersons = Arrays.asList(mockJsonPerson1, mockJsonPerson2);
-
-            // Mock getPersons() to return our list of JsonAdaptedPersons
-            when(jsonSerializableAddressBook.getPersons()).thenReturn(mockJsonPersons);
-
-            // Mock the toModelType() for each JsonAdaptedPerson
-            when(mockJsonPerson1.toModelType()).thenReturn(addressBookUnique.getEmployeeList().get(0));
-            when(mockJsonPerson2.toModelType()).thenReturn(addressBookUnique.getEmployeeList().get(1));
-
-            // Mock empty response list for employeeId lookups
-            ObservableList<Employee> emptyList = FXCollections.observableArrayList();
-            when(model.getFullFilteredByEmployeeIdPrefixListFromData(any())).thenReturn(emptyList);
+                    .thenReturn(addressBookUnique.getEmployeeList());
 
             importCommand = new ImportCommand("csv", csvFilePathNormalCase, "append");
             CommandResult result = importCommand.execute(model);
 
-            verify(model, times(2)).addEmployee(any(Employee.class));
+            verify(model, times(1)).setAndAddEmployees(eq(Map.of()), eq(List.of(AMY, BOB)));
             assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS_APPEND, 2, 0, "Conflicting records found:\n"),
                     result.getFeedbackToUser());
         }
@@ -122,42 +106,24 @@ public class ImportCommandTest {
                      mockStatic(AddressBookFormatConverter.class)) {
             // Setup imported data with AMY and BOB
             formatConverterMock.when(() -> AddressBookFormatConverter.importFromCsv(csvFilePathNormalCase))
-                    .thenReturn(jsonSerializableAddressBook);
-
-            // Create mock JsonAdaptedPerson objects
-            JsonAdaptedPerson mockJsonPerson1 = mock(JsonAdaptedPerson.class);
-            JsonAdaptedPerson mockJsonPerson2 = mock(JsonAdaptedPerson.class);
-            List<JsonAdaptedPerson> mockJsonPersons = Arrays.asList(mockJsonPerson1, mockJsonPerson2);
-
-            // Mock getPersons() to return our list of JsonAdaptedPersons
-            when(jsonSerializableAddressBook.getPersons()).thenReturn(mockJsonPersons);
-
-            // Mock the toModelType() for each JsonAdaptedPerson
-            when(mockJsonPerson1.toModelType()).thenReturn(addressBookUnique.getEmployeeList().get(0)); // AMY
-            when(mockJsonPerson2.toModelType()).thenReturn(addressBookUnique.getEmployeeList().get(1)); // BOB
-            when(mockJsonPerson1.getEmployeeId()).thenReturn(String.valueOf(AMY.getEmployeeId()));
-            when(mockJsonPerson2.getEmployeeId()).thenReturn(String.valueOf(BOB.getEmployeeId()));
+                    .thenReturn(addressBookUnique.getEmployeeList());
 
             // Create mock employee that will conflict with BOB
             Employee mockConflictingEmployee = mock(Employee.class);
-            when(mockConflictingEmployee.isSameEmployee(BOB)).thenReturn(true);
             when(mockConflictingEmployee.hasSameDetails(BOB)).thenReturn(false);
 
             // Use doReturn/when syntax which is more lenient with argument matching
-            ObservableList<Employee> emptyList = FXCollections.observableArrayList();
-            ObservableList<Employee> bobConflictList = FXCollections.observableArrayList(mockConflictingEmployee);
-
             // AMY behavior - no conflict
-            doReturn(emptyList).when(model).getFullFilteredByEmployeeIdPrefixListFromData(AMY.getEmployeeId());
+            doReturn(Optional.empty()).when(model).getEmployeeWithId(AMY.getEmployeeId());
 
             // Specific behavior for BOB
-            doReturn(bobConflictList).when(model).getFullFilteredByEmployeeIdPrefixListFromData(BOB.getEmployeeId());
+            doReturn(Optional.of(mockConflictingEmployee)).when(model).getEmployeeWithId(BOB.getEmployeeId());
 
             importCommand = new ImportCommand("csv", csvFilePathNormalCase, "append");
             CommandResult result = importCommand.execute(model);
 
             // Only AMY should be added, BOB should be skipped
-            verify(model, times(1)).addEmployee(any(Employee.class));
+            verify(model, times(1)).setAndAddEmployees(eq(Map.of()), eq(List.of(AMY)));
 
             // Check feedback message contains expected values
             String feedback = result.getFeedbackToUser();
@@ -168,6 +134,30 @@ public class ImportCommandTest {
     }
 
 
+    /**
+     * Tests that of two imported contacts with conflicting employee ID prefixes, only the first is added.
+     * @throws Exception
+     */
+    @Test
+    public void execute_importCsvAppendWithPrefixConflictingContacts_laterContactSkipped() throws Exception {
+        try (MockedStatic<AddressBookFormatConverter> formatConverterMock =
+                     mockStatic(AddressBookFormatConverter.class)) {
+            // BOB's details under an employee ID that is a prefix of AMY's
+            Employee prefixOfAmy = new EmployeeBuilder(BOB)
+                    .withEmployeeId(AMY.getEmployeeId().toString().substring(0, 8)).build();
+            formatConverterMock.when(() -> AddressBookFormatConverter.importFromCsv(csvFilePathNormalCase))
+                    .thenReturn(List.of(AMY, prefixOfAmy));
+
+            importCommand = new ImportCommand("csv", csvFilePathNormalCase, "append");
+            CommandResult result = importCommand.execute(model);
+
+            verify(model, times(1)).setAndAddEmployees(eq(Map.of()), eq(List.of(AMY)));
+            String feedback = result.getFeedbackToUser();
+            assertTrue(feedback.contains("Successfully imported 1 contacts, skipped 1"));
+            assertTrue(feedback.contains(prefixOfAmy.getEmployeeId().toString()));
+        }
+    }
+
     @Test
     public void execute_importInvalidFileType_throwsCommandException() {
         importCommand = new ImportCommand("invalid", jsonFilePathNormalCase, "overwrite");
@@ -212,7 +202,6 @@ public class ImportCommandTest {
             for (Employee employee : actualEmployees) {
                 JsonAdaptedPerson mockJsonPerson = mock(JsonAdaptedPerson.class);
                 when(mockJsonPerson.toModelType()).thenReturn(employee);
-                when(mockJsonPerson.getEmployeeId()).thenReturn(String.valueOf(employee.getEmployeeId()));
                 mockJsonPersons.add(mockJsonPerson);
             }
 
@@ -227,7 +216,6 @@ public class ImportCommandTest {
             when(mockExistingEmployee.getTags()).thenReturn(ALICE.getTags());
             when(mockExistingEmployee.getJobPosition()).thenReturn(ALICE.getJobPosition());
             when(mockExistingEmployee.getEmail()).thenReturn(ALICE.getEmail());
-            when(mockExistingEmployee.isSameEmployee(any())).thenReturn(true);
             when(mockExistingEmployee.hasSameDetails(any())).thenReturn(true);
 
             // Create a separate mock for the anniversaries list
@@ -238,15 +226,14 @@ public class ImportCommandTest {
 
 
             // Return our mock when searching for ALICE
-            ObservableList<Employee> matchList = FXCollections.observableArrayList(mockExistingEmployee);
-            when(model.getFullFilteredByEmployeeIdPrefixListFromData(ALICE.getEmployeeId()))
-                    .thenReturn(matchList);
+            when(model.getEmployeeWithId(ALICE.getEmployeeId())).thenReturn(Optional.of(mockExistingEmployee));
 
             importCommand = new ImportCommand("json", jsonFilePathNormalCase, "append");
             CommandResult result = importCommand.execute(model);
 
             // Use ArgumentCaptor to specify the Collection version of addAll
             verify(spyAnniversaryList, times(1)).toArray();
+            verify(model, times(1)).setAndAddEmployees(any(), eq(List.of()));
 
             assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS_APPEND, 1, 0, "Conflicting records found:\n"),
                     result.getFeedbackToUser());
@@ -264,43 +251,22 @@ public class ImportCommandTest {
 
             // Set up mock return for importFromCsv
             formatConverterMock.when(() -> AddressBookFormatConverter.importFromCsv(csvFilePathDuplicateCase))
-                    .thenReturn(jsonSerializableAddressBook);
-
-            // Create actual persons for the conflict test
-            AddressBook conflictBook = new AddressBookBuilder()
-                    .withEmployee(ALICE).withEmployee(BOB).build();
-            // Mock JsonAdaptedPerson list
-            List<JsonAdaptedPerson> mockJsonPersons = new ArrayList<>();
-
-            JsonAdaptedPerson mockAliceJson = mock(JsonAdaptedPerson.class);
-            when(mockAliceJson.toModelType()).thenReturn(ALICE);
-            when(mockAliceJson.getEmployeeId()).thenReturn(ALICE.getEmployeeId().toString());
-            mockJsonPersons.add(mockAliceJson);
-
-            JsonAdaptedPerson mockBobJson = mock(JsonAdaptedPerson.class);
-            when(mockBobJson.toModelType()).thenReturn(BOB);
-            when(mockBobJson.getEmployeeId()).thenReturn(BOB.getEmployeeId().toString());
-            mockJsonPersons.add(mockBobJson);
-
-            when(jsonSerializableAddressBook.getPersons()).thenReturn(mockJsonPersons);
+                    .thenReturn(List.of(ALICE, BOB));
 
             // Mock a conflicting employee for ALICE
             Employee mockConflictEmployee = mock(Employee.class);
             when(mockConflictEmployee.getName()).thenReturn(ALICE.getName());
-            when(mockConflictEmployee.isSameEmployee(any())).thenReturn(true);
             when(mockConflictEmployee.hasSameDetails(any())).thenReturn(false);
 
-            when(model.getFullFilteredByEmployeeIdPrefixListFromData(ALICE.getEmployeeId()))
-                    .thenReturn(FXCollections.observableArrayList(mockConflictEmployee));
+            when(model.getEmployeeWithId(ALICE.getEmployeeId())).thenReturn(Optional.of(mockConflictEmployee));
 
-            when(model.getFullFilteredByEmployeeIdPrefixListFromData(BOB.getEmployeeId()))
-                    .thenReturn(FXCollections.observableArrayList());
+            when(model.getEmployeeWithId(BOB.getEmployeeId())).thenReturn(Optional.empty());
 
             importCommand = new ImportCommand("csv", csvFilePathDuplicateCase, "append");
             CommandResult result = importCommand.execute(model);
 
             // Only BOB should be added
-            verify(model, times(1)).addEmployee(eq(BOB));
+            verify(model, times(1)).setAndAddEmployees(eq(Map.of()), eq(List.of(BOB)));
             assertTrue(result.getFeedbackToUser().contains(mockConflictEmployee.getName().toString()));
         }
     }
@@ -325,26 +291,23 @@ public class ImportCommandTest {
             // Create and mock a JsonAdaptedPerson to return ALICE
             JsonAdaptedPerson mockAliceJson = mock(JsonAdaptedPerson.class);
             when(mockAliceJson.toModelType()).thenReturn(ALICE);
-            when(mockAliceJson.getEmployeeId()).thenReturn(ALICE.getEmployeeId().toString());
             when(jsonSerializableAddressBook.getPersons()).thenReturn(List.of(mockAliceJson));
 
             // Simulate existing employee with same ID but different details
             Employee mockExistingEmployee = mock(Employee.class);
             when(mockExistingEmployee.getName()).thenReturn(ALICE.getName());
             when(mockExistingEmployee.getEmployeeId()).thenReturn(ALICE.getEmployeeId());
-            when(mockExistingEmployee.isSameEmployee(any())).thenReturn(true);
             when(mockExistingEmployee.hasSameDetails(any())).thenReturn(false);
 
             // When model is queried for existing employee, return this mock
-            ObservableList<Employee> matchList = FXCollections.observableArrayList(mockExistingEmployee);
-            when(model.getFullFilteredByEmployeeIdPrefixListFromData(any())).thenReturn(matchList);
+            when(model.getEmployeeWithId(any())).thenReturn(Optional.of(mockExistingEmployee));
 
             // Execute command
             importCommand = new ImportCommand("json", jsonFilePathDuplicateCase, "append");
             CommandResult result = importCommand.execute(model);
 
             // Verify no addition happens due to conflict
-            verify(model, times(0)).addEmployee(any(Employee.class));
+            verify(model, times(0)).setAndAddEmployees(any(), any());
             assertTrue(result.getFeedbackToUser().contains(mockExistingEmployee.getName().toString()));
             assertTrue(result.getFeedbackToUser().contains(mockExistingEmployee.getEmployeeId().toString()));
         }
@@ -105,5 +105,10 @@ public class AddressBookTest {
         public ObservableList<Employee> getEmployeeList() {
             return employees;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
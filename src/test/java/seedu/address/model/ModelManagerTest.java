@@ -2,17 +2,24 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EMPLOYEES;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.employeeWithAnniversaries;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -138,6 +145,190 @@ public class ModelManagerTest {
         assertEquals(0, reminders.size());
     }
 
+    @Test
+    public void constructor_upcomingAnniversary_reminderListPopulated() {
+        Employee employee = employeeWithAnniversaries("a1", "John Doe", LocalDate.now().plusDays(1),
+                LocalDate.now().plusDays(101));
+        AddressBook addressBook = new AddressBookBuilder().withEmployee(employee).build();
+
+        List<Reminder> reminders = new ModelManager(addressBook, new UserPrefs()).getReminderList();
+        assertEquals(1, reminders.size());
+        assertEquals(employee, reminders.get(0).getEmployee());
+    }
+
+    @Test
+    public void addEmployee_upcomingAnniversary_reminderInsertedInOrder() {
+        LocalDate today = LocalDate.now();
+        Employee later = employeeWithAnniversaries("a1", "John Doe", today.plusDays(2), today.plusDays(102));
+        Employee sooner = employeeWithAnniversaries("b1", "Jane Doe", today.plusDays(1), today.plusDays(101));
+        Employee sameDay = employeeWithAnniversaries("c1", "Jim Doe", today.plusDays(2), today.plusDays(102));
+
+        modelManager.addEmployee(later);
+        Reminder laterReminder = modelManager.getReminderList().get(0);
+        modelManager.addEmployee(sooner);
+        modelManager.addEmployee(sameDay);
+
+        List<Reminder> reminders = modelManager.getReminderList();
+        assertEquals(3, reminders.size());
+        assertEquals(sooner, reminders.get(0).getEmployee());
+        assertSame(laterReminder, reminders.get(1));
+        assertEquals(sameDay, reminders.get(2).getEmployee());
+    }
+
+    @Test
+    public void setEmployee_anniversaryChanged_onlyEditedRemindersReplaced() {
+        LocalDate today = LocalDate.now();
+        Employee first = employeeWithAnniversaries("a1", "John Doe", today.plusDays(1), today.plusDays(101));
+        Employee second = employeeWithAnniversaries("b1", "Jane Doe", today.plusDays(2), today.plusDays(102));
+        modelManager.addEmployee(first);
+        modelManager.addEmployee(second);
+        Reminder secondReminder = modelManager.getReminderList().get(1);
+
+        Employee editedFirst = employeeWithAnniversaries("a1", "John Doe", today.plusDays(3), today.plusDays(103));
+        modelManager.setEmployee(first, editedFirst);
+
+        List<Reminder> reminders = modelManager.getReminderList();
+        assertEquals(2, reminders.size());
+        assertSame(secondReminder, reminders.get(0));
+        assertEquals(editedFirst, reminders.get(1).getEmployee());
+        assertEquals(today.plusDays(3), reminders.get(1).getDate());
+    }
+
+    @Test
+    public void deleteEmployee_upcomingAnniversary_onlyItsRemindersRemoved() {
+        LocalDate today = LocalDate.now();
+        Employee first = employeeWithAnniversaries("a1", "John Doe", today.plusDays(1), today.plusDays(101));
+        Employee second = employeeWithAnniversaries("b1", "Jane Doe", today.plusDays(2), today.plusDays(102));
+        modelManager.addEmployee(first);
+        modelManager.addEmployee(second);
+        Reminder secondReminder = modelManager.getReminderList().get(1);
+
+        modelManager.deleteEmployee(first);
+
+        List<Reminder> reminders = modelManager.getReminderList();
+        assertEquals(1, reminders.size());
+        assertSame(secondReminder, reminders.get(0));
+    }
+
+    @Test
+    public void setAddressBook_upcomingAnniversary_reminderListRebuilt() {
+        modelManager.addEmployee(employeeWithAnniversaries("a1", "John Doe", LocalDate.now().plusDays(1),
+                LocalDate.now().plusDays(101)));
+
+        modelManager.setAddressBook(new AddressBook());
+
+        assertTrue(modelManager.getReminderList().isEmpty());
+    }
+
+    @Test
+    public void getToday_fixedClock_returnsClockDate() {
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs(), clockAt(LocalDate.of(2025, 6, 10)));
+        assertEquals(LocalDate.of(2025, 6, 10), model.getToday());
+    }
+
+    @Test
+    public void refreshToday_dateChanged_remindersRecomputed() {
+        LocalDate day = LocalDate.of(2025, 6, 10);
+        Employee employee = new EmployeeBuilder().withName("John Doe")
+                .withBirthdayAndWorkAnniversary(LocalDate.of(1990, 6, 14), LocalDate.of(1990, 1, 1))
+                .build();
+        AddressBook addressBook = new AddressBookBuilder().withEmployee(employee).build();
+        MutableClock clock = new MutableClock(day);
+        ModelManager model = new ModelManager(addressBook, new UserPrefs(), clock);
+        assertTrue(model.getReminderList().isEmpty());
+
+        // the clock moving forward does not change anything until the model is refreshed
+        clock.setDate(day.plusDays(1));
+        assertEquals(day, model.getToday());
+        assertTrue(model.getReminderList().isEmpty());
+
+        model.refreshToday();
+        assertEquals(day.plusDays(1), model.getToday());
+        assertEquals(1, model.getReminderList().size());
+        assertEquals(3, model.getReminderList().get(0).getDaysLeft());
+    }
+
+    @Test
+    public void undoAddressBook_deleteAndEdit_restoresOrderAndDetails() {
+        modelManager.setAddressBook(new AddressBookBuilder().withEmployee(ALICE).withEmployee(BENSON).build());
+        modelManager.commitChanges();
+        modelManager.deleteEmployee(ALICE);
+        Employee editedBenson = new EmployeeBuilder(BENSON).withName("Benson Edited").build();
+        modelManager.setEmployee(BENSON, editedBenson);
+
+        assertTrue(modelManager.canUndo());
+        modelManager.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getEmployeeList());
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void undoAddressBook_setAddressBook_restoresPreviousEmployees() {
+        modelManager.addEmployee(ALICE);
+        modelManager.commitChanges();
+        modelManager.setAddressBook(new AddressBookBuilder().withEmployee(BENSON).build());
+
+        modelManager.undo();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getEmployeeList());
+    }
+
+    @Test
+    public void redo_afterUndo_reappliesChanges() {
+        modelManager.setAddressBook(new AddressBookBuilder().withEmployee(ALICE).withEmployee(BENSON).build());
+        modelManager.commitChanges();
+        modelManager.deleteEmployee(ALICE);
+        modelManager.commitChanges();
+        modelManager.setAddressBook(new AddressBook());
+
+        modelManager.undo();
+        modelManager.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getEmployeeList());
+
+        assertTrue(modelManager.canRedo());
+        modelManager.redo();
+        assertEquals(List.of(BENSON), modelManager.getAddressBook().getEmployeeList());
+        modelManager.redo();
+        assertTrue(modelManager.getAddressBook().getEmployeeList().isEmpty());
+        assertFalse(modelManager.canRedo());
+        assertTrue(modelManager.canUndo());
+    }
+
+    @Test
+    public void setAndAddEmployees_replacedAndAdded_undoneTogether() {
+        LocalDate today = LocalDate.now();
+        Employee first = employeeWithAnniversaries("a1", "John Doe", today.plusDays(2), today.plusDays(102));
+        modelManager.setAddressBook(new AddressBookBuilder().withEmployee(first).build());
+        modelManager.commitChanges();
+        Employee editedFirst = new EmployeeBuilder(first).withName("John Edited").build();
+        Employee added = employeeWithAnniversaries("b1", "Jane Doe", today.plusDays(1), today.plusDays(101));
+        Employee addedLater = employeeWithAnniversaries("c1", "Jim Doe", today.plusDays(50), today.plusDays(150));
+
+        modelManager.setAndAddEmployees(Map.of(first, editedFirst), List.of(added, addedLater));
+
+        List<Employee> expected = List.of(editedFirst, added, addedLater);
+        assertEquals(expected, modelManager.getAddressBook().getEmployeeList());
+        assertEquals(expected, modelManager.getFilteredEmployeeList());
+        List<Reminder> reminders = modelManager.getReminderList();
+        assertEquals(2, reminders.size());
+        assertEquals(added, reminders.get(0).getEmployee());
+        assertEquals(editedFirst, reminders.get(1).getEmployee());
+
+        modelManager.undo();
+        assertEquals(List.of(first), modelManager.getAddressBook().getEmployeeList());
+    }
+
+    @Test
+    public void commitChanges_afterUndo_redoDiscarded() {
+        modelManager.commitChanges();
+        modelManager.addEmployee(ALICE);
+        modelManager.undo();
+
+        modelManager.commitChanges();
+        modelManager.addEmployee(BENSON);
+        assertFalse(modelManager.canRedo());
+        assertThrows(IllegalStateException.class, () -> modelManager.redo());
+    }
+
     @Test
     public void hasPerson_nullEmployee_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasEmployee(null));
@@ -195,5 +386,38 @@ public class ModelManagerTest {
         differentUserPrefs.setHreersDatafilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
-}
 
+    private static Clock clockAt(LocalDate date) {
+        return Clock.fixed(date.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    }
+
+    /**
+     * A clock whose date can be changed by the test.
+     */
+    private static class MutableClock extends Clock {
+        private Clock clock;
+
+        MutableClock(LocalDate date) {
+            setDate(date);
+        }
+
+        void setDate(LocalDate date) {
+            clock = clockAt(date);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return clock.getZone();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return clock.withZone(zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return clock.instant();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.model.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class ChangeLogTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final ChangeLog changeLog = new ChangeLog();
+
+    @Test
+    public void constructor_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeLog(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new ChangeLog(10, -1));
+    }
+
+    @Test
+    public void record_noStepStarted_changeDiscarded() {
+        addressBook.addPerson(ALICE);
+        changeLog.record(EmployeeChange.added(ALICE));
+        assertFalse(changeLog.canUndo());
+        assertThrows(IllegalStateException.class, () -> changeLog.undo(addressBook));
+    }
+
+    @Test
+    public void undo_stepWithSeveralChanges_revertsLatestFirst() {
+        addressBook.setEmployees(Arrays.asList(ALICE, BENSON, CARL));
+        changeLog.beginStep();
+
+        addressBook.removePerson(BENSON);
+        changeLog.record(EmployeeChange.removed(1, BENSON));
+        Employee editedAlice = new EmployeeBuilder(ALICE).withName("Alice Edited").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        changeLog.record(EmployeeChange.replaced(ALICE, editedAlice));
+        Employee newEmployee = new EmployeeBuilder().withEmployeeId("new1").build();
+        addressBook.addPerson(newEmployee);
+        changeLog.record(EmployeeChange.added(newEmployee));
+
+        changeLog.undo(addressBook);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), addressBook.getEmployeeList());
+        assertFalse(changeLog.canUndo());
+    }
+
+    @Test
+    public void undo_reset_restoresPreviousEmployees() {
+        addressBook.setEmployees(Arrays.asList(ALICE, BENSON));
+        changeLog.beginStep();
+        changeLog.record(EmployeeChange.reset(addressBook.getEmployeeList(), List.of(CARL)));
+        addressBook.setEmployees(List.of(CARL));
+
+        changeLog.undo(addressBook);
+        assertEquals(Arrays.asList(ALICE, BENSON), addressBook.getEmployeeList());
+
+        changeLog.redo(addressBook);
+        assertEquals(List.of(CARL), addressBook.getEmployeeList());
+    }
+
+    @Test
+    public void redo_stepWithSeveralChanges_reappliesInOrder() {
+        addressBook.setEmployees(Arrays.asList(ALICE, BENSON));
+        changeLog.beginStep();
+        addressBook.removePerson(ALICE);
+        changeLog.record(EmployeeChange.removed(0, ALICE));
+        addressBook.addPerson(ALICE);
+        changeLog.record(EmployeeChange.added(ALICE));
+
+        changeLog.undo(addressBook);
+        assertEquals(Arrays.asList(ALICE, BENSON), addressBook.getEmployeeList());
+        assertTrue(changeLog.canRedo());
+
+        changeLog.redo(addressBook);
+        assertEquals(Arrays.asList(BENSON, ALICE), addressBook.getEmployeeList());
+        assertFalse(changeLog.canRedo());
+        assertTrue(changeLog.canUndo());
+    }
+
+    @Test
+    public void record_afterUndoWithoutStep_redoDiscarded() {
+        changeLog.beginStep();
+        changeLog.undo(addressBook);
+        assertTrue(changeLog.canRedo());
+
+        addressBook.addPerson(ALICE);
+        changeLog.record(EmployeeChange.added(ALICE));
+        assertFalse(changeLog.canRedo());
+        assertThrows(IllegalStateException.class, () -> changeLog.redo(addressBook));
+    }
+
+    @Test
+    public void undo_afterUndo_changesNotRecordedUntilNextStep() {
+        changeLog.beginStep();
+        changeLog.beginStep();
+        changeLog.undo(addressBook);
+        assertFalse(changeLog.isRecording());
+
+        addressBook.addPerson(ALICE);
+        changeLog.record(EmployeeChange.added(ALICE));
+        changeLog.undo(addressBook);
+        assertEquals(List.of(ALICE), addressBook.getEmployeeList());
+    }
+
+    @Test
+    public void beginStep_moreThanMaxSteps_dropsOldestSteps() {
+        ChangeLog boundedLog = new ChangeLog(2, ChangeLog.DEFAULT_MAX_RECORDS);
+        for (int i = 0; i < 5; i++) {
+            boundedLog.beginStep();
+        }
+        assertEquals(2, boundedLog.getUndoStepCount());
+    }
+
+    @Test
+    public void record_moreThanMaxRecords_dropsOldestStepsButKeepsLatest() {
+        ChangeLog boundedLog = new ChangeLog(10, 2);
+        boundedLog.beginStep();
+        boundedLog.record(EmployeeChange.added(ALICE));
+        boundedLog.beginStep();
+        boundedLog.record(EmployeeChange.reset(Arrays.asList(ALICE, BENSON, CARL), List.of()));
+        assertEquals(1, boundedLog.getUndoStepCount());
+        assertTrue(boundedLog.canUndo());
+    }
+
+    @Test
+    public void beginStep_zeroMaxSteps_nothingRecorded() {
+        ChangeLog disabledLog = new ChangeLog(0, ChangeLog.DEFAULT_MAX_RECORDS);
+        disabledLog.beginStep();
+        disabledLog.record(EmployeeChange.added(ALICE));
+        assertFalse(disabledLog.canUndo());
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EmployeeBuilder;
+
+public class EmployeeIdTrieTest {
+
+    private static final Employee ABC = new EmployeeBuilder().withEmployeeId("abc").build();
+    private static final Employee ABD = new EmployeeBuilder().withEmployeeId("abd").build();
+    private static final Employee AB = new EmployeeBuilder().withEmployeeId("ab").build();
+    private static final Employee XYZ = new EmployeeBuilder().withEmployeeId("xyz").build();
+
+    private final EmployeeIdTrie trie = new EmployeeIdTrie();
+
+    @Test
+    public void findByPrefix_nullPrefix_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.findByPrefix(null));
+    }
+
+    @Test
+    public void findByPrefix_emptyTrie_returnsNone() {
+        assertTrue(trie.findByPrefix(new EmployeeId("a")).isNone());
+    }
+
+    @Test
+    public void findByPrefix_noMatch_returnsNone() {
+        trie.put(ABC);
+        assertTrue(trie.findByPrefix(new EmployeeId("abx")).isNone());
+        assertTrue(trie.findByPrefix(new EmployeeId("abcd")).isNone());
+        assertTrue(trie.findByPrefix(new EmployeeId("b")).isNone());
+    }
+
+    @Test
+    public void findByPrefix_singleMatch_returnsUnique() {
+        trie.put(ABC);
+        trie.put(XYZ);
+        assertEquals(EmployeeIdPrefixMatch.unique(ABC), trie.findByPrefix(new EmployeeId("a")));
+        assertEquals(EmployeeIdPrefixMatch.unique(ABC), trie.findByPrefix(new EmployeeId("abc")));
+    }
+
+    @Test
+    public void findByPrefix_severalMatches_returnsAmbiguous() {
+        trie.put(ABC);
+        trie.put(ABD);
+        trie.put(XYZ);
+        assertEquals(EmployeeIdPrefixMatch.ambiguous(2), trie.findByPrefix(new EmployeeId("ab")));
+        assertEquals(EmployeeIdPrefixMatch.unique(ABD), trie.findByPrefix(new EmployeeId("abd")));
+    }
+
+    @Test
+    public void findByPrefix_exactIdIsPrefixOfAnother_returnsAmbiguous() {
+        trie.put(ABC);
+        trie.put(AB);
+        assertEquals(EmployeeIdPrefixMatch.ambiguous(2), trie.findByPrefix(new EmployeeId("ab")));
+        assertEquals(EmployeeIdPrefixMatch.unique(ABC), trie.findByPrefix(new EmployeeId("abc")));
+    }
+
+    @Test
+    public void get_afterEdgeSplit_returnsStoredEmployees() {
+        trie.put(ABC);
+        trie.put(ABD);
+        trie.put(AB);
+        assertEquals(ABC, trie.get(ABC.getEmployeeId()));
+        assertEquals(ABD, trie.get(ABD.getEmployeeId()));
+        assertEquals(AB, trie.get(AB.getEmployeeId()));
+        assertNull(trie.get(new EmployeeId("a")));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void put_existingId_replacesEmployee() {
+        trie.put(ABC);
+        Employee editedAbc = new EmployeeBuilder(ABC).withName("Someone Else").build();
+        trie.put(editedAbc);
+        assertEquals(1, trie.size());
+        assertEquals(EmployeeIdPrefixMatch.unique(editedAbc), trie.findByPrefix(new EmployeeId("a")));
+    }
+
+    @Test
+    public void remove_absentId_returnsNull() {
+        trie.put(ABC);
+        assertNull(trie.remove(new EmployeeId("ab")));
+        assertNull(trie.remove(new EmployeeId("abcd")));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void remove_presentId_mergesRemainingBranch() {
+        trie.put(ABC);
+        trie.put(ABD);
+        assertEquals(ABD, trie.remove(ABD.getEmployeeId()));
+        assertEquals(1, trie.size());
+        assertEquals(EmployeeIdPrefixMatch.unique(ABC), trie.findByPrefix(new EmployeeId("ab")));
+        assertEquals(ABC, trie.get(ABC.getEmployeeId()));
+
+        assertEquals(ABC, trie.remove(ABC.getEmployeeId()));
+        assertEquals(0, trie.size());
+        assertTrue(trie.findByPrefix(new EmployeeId("a")).isNone());
+    }
+
+    @Test
+    public void getAllWithPrefix_returnsMatchesInIdOrder() {
+        trie.put(XYZ);
+        trie.put(ABD);
+        trie.put(ABC);
+        trie.put(AB);
+        List<Employee> expected = Arrays.asList(AB, ABC, ABD);
+        assertEquals(expected, trie.getAllWithPrefix(new EmployeeId("a")));
+        assertTrue(trie.getAllWithPrefix(new EmployeeId("q")).isEmpty());
+    }
+
+    @Test
+    public void getAllConflictingWith_returnsPrefixesAndExtensions() {
+        trie.put(AB);
+        trie.put(ABC);
+        trie.put(ABD);
+        trie.put(XYZ);
+        assertEquals(Arrays.asList(AB, ABC), trie.getAllConflictingWith(new EmployeeId("abc")));
+        assertEquals(Arrays.asList(AB, ABC, ABD), trie.getAllConflictingWith(new EmployeeId("a")));
+        assertEquals(Arrays.asList(AB, ABD), trie.getAllConflictingWith(new EmployeeId("abde")));
+        assertTrue(trie.getAllConflictingWith(new EmployeeId("xa")).isEmpty());
+    }
+
+    @Test
+    public void hasConflict_matchesGetAllConflictingWith() {
+        trie.put(AB);
+        trie.put(ABC);
+        trie.put(XYZ);
+        assertTrue(trie.hasConflict(new EmployeeId("abc")));
+        assertTrue(trie.hasConflict(new EmployeeId("a")));
+        assertTrue(trie.hasConflict(new EmployeeId("abde")));
+        assertTrue(trie.hasConflict(new EmployeeId("xyz")));
+        assertFalse(trie.hasConflict(new EmployeeId("xa")));
+        assertFalse(trie.hasConflict(new EmployeeId("q")));
+    }
+
+    @Test
+    public void hasConflictIgnoring_ignoresOnlyGivenId() {
+        trie.put(AB);
+        trie.put(ABC);
+        trie.put(XYZ);
+        assertTrue(trie.hasConflictIgnoring(new EmployeeId("abc"), AB.getEmployeeId()));
+        assertFalse(trie.hasConflictIgnoring(new EmployeeId("abd"), AB.getEmployeeId()));
+        assertFalse(trie.hasConflictIgnoring(new EmployeeId("xyzw"), XYZ.getEmployeeId()));
+        assertTrue(trie.hasConflictIgnoring(new EmployeeId("xyzw"), ABC.getEmployeeId()));
+        assertTrue(trie.hasConflictIgnoring(new EmployeeId("abd"), new EmployeeId("q")));
+    }
+
+    @Test
+    public void clear_removesAllEmployees() {
+        trie.put(ABC);
+        trie.put(XYZ);
+        trie.clear();
+        assertEquals(0, trie.size());
+        assertTrue(trie.findByPrefix(new EmployeeId("x")).isNone());
+    }
+}
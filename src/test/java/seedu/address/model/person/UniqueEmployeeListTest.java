@@ -8,13 +8,19 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
 import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BOB;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.CARL;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.employeeWithAnniversaries;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.util.Pair;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.EmployeeNotFoundException;
 import seedu.address.testutil.EmployeeBuilder;
@@ -129,6 +135,31 @@ public class UniqueEmployeeListTest {
         assertEquals(expectedUniqueEmployeeList, uniqueEmployeeList);
     }
 
+    @Test
+    public void remove_employeeBeforeOthers_keepsLaterEmployeesAddressable() {
+        uniqueEmployeeList.add(ALICE);
+        uniqueEmployeeList.add(BOB);
+        uniqueEmployeeList.add(CARL);
+        uniqueEmployeeList.remove(ALICE);
+
+        Employee editedCarl = new EmployeeBuilder(CARL).withJobPosition(VALID_JOBPOSITION_BOB).build();
+        uniqueEmployeeList.setPerson(CARL, editedCarl);
+        uniqueEmployeeList.remove(BOB);
+
+        UniqueEmployeeList expectedUniqueEmployeeList = new UniqueEmployeeList();
+        expectedUniqueEmployeeList.add(editedCarl);
+        assertEquals(expectedUniqueEmployeeList, uniqueEmployeeList);
+        assertFalse(uniqueEmployeeList.contains(ALICE));
+        assertTrue(uniqueEmployeeList.contains(CARL));
+    }
+
+    @Test
+    public void remove_employeeWithSameIdentityButDifferentFields_throwsEmployeeNotFoundException() {
+        uniqueEmployeeList.add(ALICE);
+        Employee editedAlice = new EmployeeBuilder(ALICE).withJobPosition(VALID_JOBPOSITION_BOB).build();
+        assertThrows(EmployeeNotFoundException.class, () -> uniqueEmployeeList.remove(editedAlice));
+    }
+
     @Test
     public void setEmployees_nullUniqueEmployeeList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEmployeeList.setPersons((UniqueEmployeeList) null));
@@ -164,6 +195,174 @@ public class UniqueEmployeeListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueEmployeeList.setPersons(listWithDuplicateEmployees));
     }
 
+    @Test
+    public void addAll_employeeAlreadyInList_throwsDuplicatePersonException() {
+        uniqueEmployeeList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniqueEmployeeList.addAll(Arrays.asList(BOB, ALICE)));
+        assertEquals(List.of(ALICE), uniqueEmployeeList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicateEmployeesInBatch_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniqueEmployeeList.addAll(Arrays.asList(BOB, BOB)));
+        assertTrue(uniqueEmployeeList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void addAll_employees_appendedInOrderAndIndexed() {
+        Employee prefix = new EmployeeBuilder().withEmployeeId("abc").build();
+        Employee extended = new EmployeeBuilder().withEmployeeId("abcd").build();
+        uniqueEmployeeList.add(prefix);
+
+        uniqueEmployeeList.addAll(Arrays.asList(extended, ALICE));
+
+        assertEquals(List.of(prefix, extended, ALICE), uniqueEmployeeList.asUnmodifiableObservableList());
+        assertEquals(2, uniqueEmployeeList.positionOf(ALICE.getEmployeeId()));
+        assertEquals(1, uniqueEmployeeList.getPrefixConflictCount());
+        assertTrue(uniqueEmployeeList.contains(extended));
+    }
+
+    @Test
+    public void getByEmployeeId_matchesExactIdOnly() {
+        Employee prefix = new EmployeeBuilder().withEmployeeId("abc").build();
+        Employee extended = new EmployeeBuilder().withEmployeeId("abcd").build();
+        uniqueEmployeeList.add(prefix);
+        uniqueEmployeeList.add(extended);
+
+        assertEquals(Optional.of(extended), uniqueEmployeeList.getByEmployeeId(new EmployeeId("abcd")));
+        assertEquals(Optional.empty(), uniqueEmployeeList.getByEmployeeId(new EmployeeId("ab")));
+
+        uniqueEmployeeList.remove(prefix);
+        assertEquals(Optional.empty(), uniqueEmployeeList.getByEmployeeId(prefix.getEmployeeId()));
+        assertEquals(Optional.of(extended), uniqueEmployeeList.getByEmployeeId(extended.getEmployeeId()));
+    }
+
+    @Test
+    public void getPrefixConflictCount_addEditRemove_tracksConflicts() {
+        Employee prefix = new EmployeeBuilder().withEmployeeId("abc").build();
+        Employee extended = new EmployeeBuilder().withEmployeeId("abcd").build();
+        Employee other = new EmployeeBuilder().withEmployeeId("xyz").build();
+        uniqueEmployeeList.add(prefix);
+        uniqueEmployeeList.add(other);
+        assertEquals(0, uniqueEmployeeList.getPrefixConflictCount());
+
+        uniqueEmployeeList.add(extended);
+        assertEquals(1, uniqueEmployeeList.getPrefixConflictCount());
+        assertEquals(Collections.singletonList(new Pair<>(prefix.getEmployeeId(), extended.getEmployeeId())),
+                uniqueEmployeeList.getPrefixConflictingPairs());
+
+        Employee renamedOther = new EmployeeBuilder(other).withEmployeeId("ab").build();
+        uniqueEmployeeList.setPerson(other, renamedOther);
+        assertEquals(3, uniqueEmployeeList.getPrefixConflictCount());
+
+        uniqueEmployeeList.remove(prefix);
+        assertEquals(1, uniqueEmployeeList.getPrefixConflictCount());
+        assertEquals(Collections.singletonList(new Pair<>(renamedOther.getEmployeeId(), extended.getEmployeeId())),
+                uniqueEmployeeList.getPrefixConflictingPairs());
+    }
+
+    @Test
+    public void getPrefixConflictCount_setEmployees_rebuildsConflicts() {
+        Employee prefix = new EmployeeBuilder().withEmployeeId("abc").build();
+        Employee extended = new EmployeeBuilder().withEmployeeId("abcd").build();
+        Employee furtherExtended = new EmployeeBuilder().withEmployeeId("abcde").build();
+        uniqueEmployeeList.setPersons(Arrays.asList(furtherExtended, ALICE, prefix, extended));
+        assertEquals(3, uniqueEmployeeList.getPrefixConflictCount());
+
+        uniqueEmployeeList.remove(extended);
+        assertEquals(1, uniqueEmployeeList.getPrefixConflictCount());
+        assertTrue(uniqueEmployeeList.hasEmployeeIdPrefixConflict(new EmployeeId("abcdef")));
+        assertTrue(uniqueEmployeeList.hasEmployeeIdPrefixConflictIgnoringSpecific(new EmployeeId("abcdef"),
+                furtherExtended.getEmployeeId()));
+        assertFalse(uniqueEmployeeList.hasEmployeeIdPrefixConflict(new EmployeeId("b")));
+    }
+
+    @Test
+    public void hasDuplicatePersonDetails_afterMutations_tracksDetails() {
+        Employee aliceCopy = new EmployeeBuilder(ALICE).withEmployeeId("aaaaaaaa").build();
+        assertFalse(uniqueEmployeeList.hasDuplicatePersonDetails(aliceCopy));
+
+        uniqueEmployeeList.add(ALICE);
+        assertTrue(uniqueEmployeeList.hasDuplicatePersonDetails(aliceCopy));
+        uniqueEmployeeList.add(aliceCopy);
+        assertEquals(Collections.singletonList(Arrays.asList(ALICE, aliceCopy)),
+                uniqueEmployeeList.getDuplicateDetailGroups());
+
+        Employee editedAlice = new EmployeeBuilder(ALICE).withJobPosition(VALID_JOBPOSITION_BOB).build();
+        uniqueEmployeeList.setPerson(ALICE, editedAlice);
+        assertTrue(uniqueEmployeeList.getDuplicateDetailGroups().isEmpty());
+        assertTrue(uniqueEmployeeList.hasDuplicatePersonDetails(ALICE));
+
+        uniqueEmployeeList.remove(aliceCopy);
+        assertFalse(uniqueEmployeeList.hasDuplicatePersonDetails(ALICE));
+        assertTrue(uniqueEmployeeList.hasDuplicatePersonDetails(editedAlice));
+    }
+
+    @Test
+    public void sortByUpcomingDate_mixedDates_sortsByNextOccurrence() {
+        LocalDate today = LocalDate.of(2025, 6, 10);
+        Employee noDates = new EmployeeBuilder().withEmployeeId("a1").withName("No Dates").build();
+        Employee august = employeeWithAnniversaries("b1", "August",
+                LocalDate.of(1990, 8, 1), LocalDate.of(1990, 8, 1));
+        Employee january = employeeWithAnniversaries("c1", "January",
+                LocalDate.of(1990, 1, 5), LocalDate.of(1990, 1, 5));
+        Employee june = employeeWithAnniversaries("d1", "June",
+                LocalDate.of(1990, 6, 10), LocalDate.of(1990, 6, 10));
+        Employee alsoAugust = employeeWithAnniversaries("e1", "Also August",
+                LocalDate.of(1985, 8, 1), LocalDate.of(1985, 8, 1));
+        uniqueEmployeeList.setPersons(Arrays.asList(noDates, august, january, june, alsoAugust));
+
+        uniqueEmployeeList.sortByUpcomingDate(today);
+        assertEquals(Arrays.asList(june, august, alsoAugust, january, noDates),
+                uniqueEmployeeList.asUnmodifiableObservableList());
+
+        // positions are updated along with the order
+        uniqueEmployeeList.remove(august);
+        uniqueEmployeeList.setPerson(noDates, new EmployeeBuilder(noDates).withName("Still No Dates").build());
+        assertEquals(Arrays.asList(june, alsoAugust, january),
+                uniqueEmployeeList.asUnmodifiableObservableList().subList(0, 3));
+    }
+
+    @Test
+    public void sortByUpcomingDate_listModified_sortsAgain() {
+        LocalDate today = LocalDate.of(2025, 6, 10);
+        Employee august = employeeWithAnniversaries("b1", "August", LocalDate.of(1990, 8, 1), LocalDate.of(1990, 8, 1));
+        Employee june = employeeWithAnniversaries("d1", "June", LocalDate.of(1990, 6, 12), LocalDate.of(1990, 6, 12));
+        uniqueEmployeeList.add(august);
+        uniqueEmployeeList.sortByUpcomingDate(today);
+
+        uniqueEmployeeList.add(june);
+        uniqueEmployeeList.sortByUpcomingDate(today);
+        assertEquals(Arrays.asList(june, august), uniqueEmployeeList.asUnmodifiableObservableList());
+
+        // a different day can change the order without any modification
+        uniqueEmployeeList.sortByUpcomingDate(LocalDate.of(2025, 6, 13));
+        assertEquals(Arrays.asList(august, june), uniqueEmployeeList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getVersion_changesOnEveryModification() {
+        long version = uniqueEmployeeList.getVersion();
+        uniqueEmployeeList.add(ALICE);
+        assertTrue(uniqueEmployeeList.getVersion() > version);
+
+        version = uniqueEmployeeList.getVersion();
+        uniqueEmployeeList.setPerson(ALICE, new EmployeeBuilder(ALICE).withJobPosition(VALID_JOBPOSITION_BOB).build());
+        assertTrue(uniqueEmployeeList.getVersion() > version);
+
+        version = uniqueEmployeeList.getVersion();
+        uniqueEmployeeList.setPersons(Collections.singletonList(BOB));
+        assertTrue(uniqueEmployeeList.getVersion() > version);
+
+        version = uniqueEmployeeList.getVersion();
+        uniqueEmployeeList.remove(BOB);
+        assertTrue(uniqueEmployeeList.getVersion() > version);
+
+        version = uniqueEmployeeList.getVersion();
+        uniqueEmployeeList.contains(ALICE);
+        assertEquals(version, uniqueEmployeeList.getVersion());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
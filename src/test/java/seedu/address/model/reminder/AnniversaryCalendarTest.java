@@ -0,0 +1,136 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.employeeWithAnniversaries;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Employee;
+
+public class AnniversaryCalendarTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 10);
+    private static final ToIntFunction<Employee> NO_ORDER = employee -> 0;
+
+    private final AnniversaryCalendar calendar = new AnniversaryCalendar();
+
+    @Test
+    public void getRemindersWithin_nullToday_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> calendar.getRemindersWithin(null, 3, NO_ORDER));
+    }
+
+    @Test
+    public void getRemindersWithin_emptyCalendar_returnsEmptyList() {
+        assertTrue(calendar.getRemindersWithin(TODAY, 3, NO_ORDER).isEmpty());
+    }
+
+    @Test
+    public void getRemindersWithin_onlyAnniversariesInRangeReturned() {
+        Employee alice = employeeWithAnniversaries("a1", "Alice", LocalDate.of(1990, 6, 10), LocalDate.of(1990, 6, 14));
+        Employee bob = employeeWithAnniversaries("b1", "Bob", LocalDate.of(1985, 6, 13), LocalDate.of(1985, 6, 9));
+        calendar.add(alice);
+        calendar.add(bob);
+
+        List<Reminder> reminders = calendar.getRemindersWithin(TODAY, 3, NO_ORDER);
+        assertEquals(2, reminders.size());
+        assertReminder(reminders.get(0), alice, LocalDate.of(2025, 6, 10));
+        assertReminder(reminders.get(1), bob, LocalDate.of(2025, 6, 13));
+    }
+
+    @Test
+    public void getRemindersWithin_rangeCrossesNewYear_returnsNextYearDates() {
+        Employee alice = employeeWithAnniversaries("a1", "Alice", LocalDate.of(1990, 1, 2), LocalDate.of(1990, 12, 31));
+        calendar.add(alice);
+
+        List<Reminder> reminders = calendar.getRemindersWithin(LocalDate.of(2025, 12, 30), 3, NO_ORDER);
+        assertEquals(2, reminders.size());
+        assertReminder(reminders.get(0), alice, LocalDate.of(2025, 12, 31));
+        assertReminder(reminders.get(1), alice, LocalDate.of(2026, 1, 2));
+    }
+
+    @Test
+    public void getRemindersWithin_leapDayInCommonYear_fallsBackToFebruary28() {
+        Employee alice = employeeWithAnniversaries("a1", "Alice", LocalDate.of(2000, 2, 29), LocalDate.of(2000, 3, 5));
+        calendar.add(alice);
+
+        List<Reminder> reminders = calendar.getRemindersWithin(LocalDate.of(2025, 2, 27), 3, NO_ORDER);
+        assertEquals(1, reminders.size());
+        assertReminder(reminders.get(0), alice, LocalDate.of(2025, 2, 28));
+
+        reminders = calendar.getRemindersWithin(LocalDate.of(2024, 2, 27), 3, NO_ORDER);
+        assertEquals(1, reminders.size());
+        assertReminder(reminders.get(0), alice, LocalDate.of(2024, 2, 29));
+    }
+
+    @Test
+    public void getRemindersWithin_futureDate_onlyReturnedWhenDateIsInRange() {
+        Employee alice = employeeWithAnniversaries("a1", "Alice", LocalDate.of(2027, 6, 11), LocalDate.of(2025, 6, 12));
+        calendar.add(alice);
+
+        List<Reminder> reminders = calendar.getRemindersWithin(TODAY, 3, NO_ORDER);
+        assertEquals(1, reminders.size());
+        assertReminder(reminders.get(0), alice, LocalDate.of(2025, 6, 12));
+    }
+
+    @Test
+    public void getRemindersWithin_sameDate_orderedByEmployeeOrder() {
+        Employee alice = employeeWithAnniversaries("a1", "Alice", LocalDate.of(1990, 6, 11), LocalDate.of(1990, 1, 1));
+        Employee bob = employeeWithAnniversaries("b1", "Bob", LocalDate.of(1985, 6, 11), LocalDate.of(1985, 1, 1));
+        calendar.add(alice);
+        calendar.add(bob);
+
+        List<Reminder> reminders = calendar.getRemindersWithin(TODAY, 3,
+                employee -> employee.equals(bob) ? 0 : 1);
+        assertEquals(bob, reminders.get(0).getEmployee());
+        assertEquals(alice, reminders.get(1).getEmployee());
+    }
+
+    @Test
+    public void remove_afterAnniversariesModified_removesIndexedAnniversaries() {
+        Employee alice = employeeWithAnniversaries("a1", "Alice", LocalDate.of(1990, 6, 11), LocalDate.of(1990, 1, 1));
+        calendar.add(alice);
+        alice.getAnniversaries().clear();
+
+        calendar.remove(alice.getEmployeeId());
+        assertTrue(calendar.getRemindersWithin(TODAY, 3, NO_ORDER).isEmpty());
+    }
+
+    @Test
+    public void add_sameEmployeeId_replacesAnniversaries() {
+        Employee alice = employeeWithAnniversaries("a1", "Alice",
+                LocalDate.of(1990, 6, 11), LocalDate.of(1990, 1, 1));
+        Employee editedAlice = employeeWithAnniversaries("a1", "Alice",
+                LocalDate.of(1990, 6, 12), LocalDate.of(1990, 1, 1));
+        calendar.add(alice);
+        calendar.add(editedAlice);
+
+        List<Reminder> reminders = calendar.getRemindersWithin(TODAY, 3, NO_ORDER);
+        assertEquals(1, reminders.size());
+        assertReminder(reminders.get(0), editedAlice, LocalDate.of(2025, 6, 12));
+    }
+
+    @Test
+    public void clear_removesAllAnniversaries() {
+        calendar.add(employeeWithAnniversaries("a1", "Alice", LocalDate.of(1990, 6, 11), LocalDate.of(1990, 6, 12)));
+        calendar.clear();
+        assertTrue(calendar.getRemindersWithin(TODAY, 3, NO_ORDER).isEmpty());
+    }
+
+    @Test
+    public void getNextOccurrence_pastDate_returnsNextAnniversary() {
+        assertEquals(LocalDate.of(2026, 6, 9),
+                AnniversaryCalendar.getNextOccurrence(LocalDate.of(1990, 6, 9), TODAY));
+        assertEquals(TODAY, AnniversaryCalendar.getNextOccurrence(LocalDate.of(1990, 6, 10), TODAY));
+    }
+
+    private static void assertReminder(Reminder reminder, Employee employee, LocalDate date) {
+        assertEquals(employee, reminder.getEmployee());
+        assertEquals(date, reminder.getDate());
+    }
+}
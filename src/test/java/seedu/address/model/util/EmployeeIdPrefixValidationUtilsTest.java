@@ -0,0 +1,46 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.util.Pair;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class EmployeeIdPrefixValidationUtilsTest {
+
+    private static Employee employeeWithId(String employeeId) {
+        return new EmployeeBuilder().withEmployeeId(employeeId).build();
+    }
+
+    private static Pair<EmployeeId, EmployeeId> pair(String prefix, String employeeId) {
+        return new Pair<>(new EmployeeId(prefix), new EmployeeId(employeeId));
+    }
+
+    @Test
+    public void getPrefixConflictingPairs_noConflicts_returnsEmptyList() {
+        List<Employee> employees = Arrays.asList(employeeWithId("abc"), employeeWithId("abd"), employeeWithId("b"));
+        assertTrue(EmployeeIdPrefixValidationUtils.getPrefixConflictingPairs(employees).isEmpty());
+    }
+
+    @Test
+    public void getPrefixConflictingPairs_nestedAndSiblingPrefixes_returnsAllPairs() {
+        List<Employee> employees = Arrays.asList(employeeWithId("abcd"), employeeWithId("x"),
+                employeeWithId("ab"), employeeWithId("abc"), employeeWithId("abd"), employeeWithId("xy"));
+        Set<Pair<EmployeeId, EmployeeId>> expected = new HashSet<>(Arrays.asList(
+                pair("ab", "abc"), pair("ab", "abcd"), pair("abc", "abcd"), pair("ab", "abd"), pair("x", "xy")));
+
+        List<Pair<EmployeeId, EmployeeId>> actual =
+                EmployeeIdPrefixValidationUtils.getPrefixConflictingPairs(employees);
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, new HashSet<>(actual));
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void requestSave_savesSnapshotOfRequestTime() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("ab.json"));
+        AddressBookSaver saver = new AddressBookSaver(storage, e -> { });
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        saver.requestSave(addressBook);
+        addressBook.addPerson(BENSON);
+        saver.flush();
+
+        assertEquals(List.of(1), storage.savedSizes);
+    }
+
+    @Test
+    public void requestSave_whileSaving_coalescedIntoLatestSnapshot() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("ab.json"));
+        storage.blockNextSave();
+        AddressBookSaver saver = new AddressBookSaver(storage, e -> { });
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave(addressBook);
+        assertTrue(storage.saveStarted.await(5, TimeUnit.SECONDS));
+        addressBook.addPerson(BENSON);
+        saver.requestSave(addressBook);
+        addressBook.addPerson(CARL);
+        saver.requestSave(addressBook);
+        storage.releaseSave.countDown();
+        saver.flush();
+
+        assertEquals(List.of(1, 3), storage.savedSizes);
+    }
+
+    @Test
+    public void requestSave_withinGroupCommitWindow_savedOnce() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("ab.json"));
+        AddressBookSaver saver = new AddressBookSaver(storage, 60_000, e -> { });
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.requestSave(addressBook);
+        addressBook.addPerson(BENSON);
+        saver.requestSave(addressBook);
+        assertTrue(storage.savedSizes.isEmpty());
+
+        saver.flush();
+        assertEquals(List.of(2), storage.savedSizes);
+        saver.stop();
+        assertEquals(List.of(2), storage.savedSizes);
+    }
+
+    @Test
+    public void requestSave_saveFails_failureHandlerCalled() {
+        IOException exception = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw exception;
+            }
+        };
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        AddressBookSaver saver = new AddressBookSaver(failingStorage, failures::add);
+
+        saver.requestSave(new AddressBook());
+        saver.stop();
+        assertEquals(List.of(exception), failures);
+    }
+
+    /**
+     * A storage that records the size of each saved address book, and can hold a save until it is released.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final List<Integer> savedSizes = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private CountDownLatch releaseSave = new CountDownLatch(0);
+
+        RecordingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        void blockNextSave() {
+            releaseSave = new CountDownLatch(1);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveStarted.countDown();
+            try {
+                releaseSave.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            savedSizes.add(addressBook.getEmployeeList().size());
+        }
+    }
+}
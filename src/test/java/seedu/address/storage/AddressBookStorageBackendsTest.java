@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.HOON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.StorageBackend;
+import seedu.address.model.AddressBook;
+
+/**
+ * Checks that every {@link StorageBackend} behaves the same way through the {@code AddressBookStorage} interface.
+ */
+public class AddressBookStorageBackendsTest {
+
+    private final Config config = new Config();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        for (StorageBackend backend : StorageBackend.values()) {
+            AddressBookStorage storage = createStorage(backend, backend + "-missing.json");
+            assertFalse(storage.readAddressBook().isPresent(), backend.toString());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_readBackByNewStorage() throws Exception {
+        for (StorageBackend backend : StorageBackend.values()) {
+            String fileName = backend + ".json";
+            AddressBook original = getTypicalAddressBook();
+            AddressBookStorage storage = createStorage(backend, fileName);
+            storage.saveAddressBook(storage.snapshotAddressBook(original));
+
+            assertEquals(original, new AddressBook(createStorage(backend, fileName).readAddressBook().get()),
+                    backend.toString());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_laterChanges_readBackByNewStorage() throws Exception {
+        for (StorageBackend backend : StorageBackend.values()) {
+            String fileName = backend + ".json";
+            AddressBook original = getTypicalAddressBook();
+            AddressBookStorage storage = createStorage(backend, fileName);
+            storage.saveAddressBook(storage.snapshotAddressBook(original));
+            original.addPerson(HOON);
+            storage.saveAddressBook(storage.snapshotAddressBook(original));
+            original.removePerson(ALICE);
+            storage.saveAddressBook(storage.snapshotAddressBook(original));
+
+            assertEquals(original, new AddressBook(createStorage(backend, fileName).readAddressBook().get()),
+                    backend.toString());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_readBackFromOtherFile() throws Exception {
+        for (StorageBackend backend : StorageBackend.values()) {
+            Path otherFilePath = testFolder.resolve(backend + "-other.json");
+            AddressBook original = getTypicalAddressBook();
+            createStorage(backend, backend + ".json").saveAddressBook(original, otherFilePath);
+
+            assertEquals(original, new AddressBook(createStorage(backend, backend + ".json")
+                    .readAddressBook(otherFilePath).get()), backend.toString());
+        }
+    }
+
+    @Test
+    public void create_database_keepsFileOfItsOwn() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+        createStorage(StorageBackend.JSON, "data.json").saveAddressBook(original);
+        byte[] jsonBytes = Files.readAllBytes(filePath);
+
+        AddressBookStorage databaseStorage = createStorage(StorageBackend.DATABASE, "data.json");
+        assertFalse(databaseStorage.readAddressBook().isPresent());
+        databaseStorage.saveAddressBook(new AddressBook());
+
+        assertArrayEquals(jsonBytes, Files.readAllBytes(filePath));
+        assertEquals(original, new AddressBook(createStorage(StorageBackend.JSON, "data.json")
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void migrate_missingSource_returnsFalse() throws Exception {
+        assertFalse(AddressBookStorageBackends.migrate(createStorage(StorageBackend.JSON, "missing.json"),
+                createStorage(StorageBackend.JOURNALED, "missing.json")));
+    }
+
+    @Test
+    public void migrate_everyPairOfBackends_readBackByTarget() throws Exception {
+        for (StorageBackend source : StorageBackend.values()) {
+            for (StorageBackend target : StorageBackend.values()) {
+                String fileName = source + "-to-" + target + ".json";
+                AddressBook original = getTypicalAddressBook();
+                AddressBookStorage sourceStorage = createStorage(source, fileName);
+                sourceStorage.saveAddressBook(sourceStorage.snapshotAddressBook(original));
+                original.addPerson(HOON);
+                sourceStorage.saveAddressBook(sourceStorage.snapshotAddressBook(original));
+
+                AddressBookStorage targetStorage = createStorage(target, fileName);
+                assertTrue(AddressBookStorageBackends.migrate(createStorage(source, fileName), targetStorage));
+
+                String pair = source + " to " + target;
+                assertEquals(original, new AddressBook(createStorage(target, fileName).readAddressBook().get()), pair);
+                Path filePath = testFolder.resolve(fileName);
+                for (Path path : sourceStorage.getAuxiliaryFilePaths(filePath)) {
+                    if (!targetStorage.getAuxiliaryFilePaths(filePath).contains(path)) {
+                        assertFalse(Files.exists(path), pair + ": " + path);
+                    }
+                }
+            }
+        }
+    }
+
+    private AddressBookStorage createStorage(StorageBackend backend, String fileName) {
+        return AddressBookStorageBackends.create(backend, testFolder.resolve(fileName), config);
+    }
+
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.HOON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.anniversary.Anniversary;
+import seedu.address.model.anniversary.AnniversaryType;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Employee;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.JobPosition;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class BinarySnapshotAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_snapshotWrittenAndReadBack() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        BinarySnapshotAddressBookStorage storage = new BinarySnapshotAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(BinarySnapshotAddressBookStorage.getSnapshotPath(filePath)));
+        assertEquals(original, storage.readAddressBook().get());
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_snapshotMatchesJsonFile_snapshotRead() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        BinarySnapshotAddressBookStorage storage = new BinarySnapshotAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // A snapshot with other employees, recorded as written with the current json file.
+        BinaryAddressBookFile.write(List.of(ALICE), Files.size(filePath),
+                BinarySnapshotAddressBookStorage.checksumOf(filePath),
+                BinarySnapshotAddressBookStorage.getSnapshotPath(filePath));
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        assertEquals(expected, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_jsonFileChangedAfterSnapshot_jsonFileRead() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        BinarySnapshotAddressBookStorage storage = new BinarySnapshotAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(edited);
+        assertEquals(edited, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_jsonFileEditedWithSameSizeAndModifiedTime_jsonFileRead() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        BinarySnapshotAddressBookStorage storage = new BinarySnapshotAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        FileTime modifiedTime = Files.getLastModifiedTime(filePath);
+        long size = Files.size(filePath);
+
+        // An edit of the same length, with the modified time restored as cp -p or a backup restore would do.
+        String json = Files.readString(filePath);
+        String editedName = ALICE.getName().fullName.replace('A', 'E');
+        Files.writeString(filePath, json.replace(ALICE.getName().fullName, editedName));
+        Files.setLastModifiedTime(filePath, modifiedTime);
+        assertEquals(size, Files.size(filePath));
+
+        AddressBook edited = getTypicalAddressBook();
+        edited.setPerson(ALICE, new EmployeeBuilder(ALICE).withName(editedName).build());
+        assertEquals(edited, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedSnapshot_jsonFileRead() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        BinarySnapshotAddressBookStorage storage = new BinarySnapshotAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Path snapshotPath = BinarySnapshotAddressBookStorage.getSnapshotPath(filePath);
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        Files.write(snapshotPath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void read_truncatedSnapshot_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        BinarySnapshotAddressBookStorage storage = new BinarySnapshotAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Path snapshotPath = BinarySnapshotAddressBookStorage.getSnapshotPath(filePath);
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        Files.write(snapshotPath, Arrays.copyOf(bytes, bytes.length - 1));
+        long size = Files.size(filePath);
+        long checksum = BinarySnapshotAddressBookStorage.checksumOf(filePath);
+        assertThrows(IllegalValueException.class, () -> BinaryAddressBookFile.read(snapshotPath, size, checksum));
+    }
+
+    @Test
+    public void saveAddressBook_nullFieldsAndSharedValues_readBack() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        BinarySnapshotAddressBookStorage storage = new BinarySnapshotAddressBookStorage(filePath);
+        AnniversaryType type = new AnniversaryType("Promotion", null);
+        Employee first = new Employee(new EmployeeId("1"), new Name("First"), new Phone("91234567"),
+                new Email("first@example.com"), new JobPosition("Engineer"), Set.of(new Tag("shared")),
+                List.of(new Anniversary(null, type, null, "First")));
+        Employee second = new Employee(new EmployeeId("2"), new Name("Second"), new Phone("91234568"),
+                new Email("second@example.com"), new JobPosition("Engineer"), Set.of(new Tag("shared")),
+                List.of(new Anniversary(null, type, "Second promotion", null)));
+        AddressBook original = new AddressBook();
+        original.addPerson(first);
+        original.addPerson(second);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, BinaryAddressBookFile.read(BinarySnapshotAddressBookStorage.getSnapshotPath(filePath),
+                Files.size(filePath), BinarySnapshotAddressBookStorage.checksumOf(filePath)).get());
+    }
+
+}
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvChunksTest {
+
+    @Test
+    public void constructor_nonPositiveChunkSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvChunks(
+                Channels.newChannel(new ByteArrayInputStream(new byte[0])), 0));
+    }
+
+    @Test
+    public void nextChunkEnd_emptyInput_oneEmptyChunk() throws IOException {
+        assertEquals(List.of(""), split("", 1));
+    }
+
+    @Test
+    public void nextChunkEnd_smallChunkSize_oneRecordPerChunk() throws IOException {
+        assertEquals(List.of("a,b\r\n", "c,d\n", "e,f"), split("a,b\r\nc,d\ne,f", 1));
+    }
+
+    @Test
+    public void nextChunkEnd_lineBreaksInQuotes_recordsKeptWhole() throws IOException {
+        assertEquals(List.of("1,\"x\ny\"\n", "2,\"say \"\"hi\"\"\n!\"\n", "3,z\n"),
+                split("1,\"x\ny\"\n2,\"say \"\"hi\"\"\n!\"\n3,z\n", 1));
+    }
+
+    @Test
+    public void nextChunkEnd_largeChunkSize_recordsGrouped() throws IOException {
+        assertEquals(List.of("a,1\nb,2\n", "c,3\nd,4\n"), split("a,1\nb,2\nc,3\nd,4\n", 5));
+        assertEquals(List.of("a,1\nb,2\nc,3\nd,4\n"), split("a,1\nb,2\nc,3\nd,4\n", 100));
+    }
+
+    @Test
+    public void nextChunkEnd_documentLargerThanScanBuffer_recordsKeptWhole() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            csv.append(i).append(",\"line\nbreak\"\n");
+        }
+
+        List<String> chunks = split(csv.toString(), 1000);
+
+        assertEquals(csv.toString(), String.join("", chunks));
+        for (String chunk : chunks) {
+            assertEquals('\n', chunk.charAt(chunk.length() - 1));
+            assertEquals(0, chunk.chars().filter(c -> c == '"').count() % 2);
+        }
+    }
+
+    private static List<String> split(String csv, int chunkSize) throws IOException {
+        byte[] csvBytes = csv.getBytes(StandardCharsets.UTF_8);
+        CsvChunks csvChunks = new CsvChunks(Channels.newChannel(new ByteArrayInputStream(csvBytes)), chunkSize);
+        List<String> chunks = new ArrayList<>();
+        long chunkStart = 0;
+        for (long chunkEnd = csvChunks.nextChunkEnd(); chunkEnd >= 0; chunkEnd = csvChunks.nextChunkEnd()) {
+            chunks.add(new String(csvBytes, (int) chunkStart, (int) (chunkEnd - chunkStart), StandardCharsets.UTF_8));
+            chunkStart = chunkEnd;
+        }
+        return chunks;
+    }
+
+}
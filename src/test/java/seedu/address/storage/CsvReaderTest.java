@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_emptyInput_returnsNull() throws IOException {
+        assertNull(new CsvReader(new StringReader("")).readRecord());
+    }
+
+    @Test
+    public void readRecord_lineBreaks_oneRecordPerLine() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("a,b\r\nc,d\re,f\n,\n"));
+        assertArrayEquals(new String[] {"a", "b"}, csvReader.readRecord());
+        assertArrayEquals(new String[] {"c", "d"}, csvReader.readRecord());
+        assertArrayEquals(new String[] {"e", "f"}, csvReader.readRecord());
+        assertArrayEquals(new String[] {"", ""}, csvReader.readRecord());
+        assertNull(csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_unescaped() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("\"Pauline, Alice\",\"say \"\"hi\"\"\",\"\"\n"));
+        assertArrayEquals(new String[] {"Pauline, Alice", "say \"hi\"", ""}, csvReader.readRecord());
+        assertNull(csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_lineBreaksInQuotes_partOfField() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("1,\"first line\r\nsecond line\nthird\"\n2,x"));
+        assertArrayEquals(new String[] {"1", "first line\nsecond line\nthird"}, csvReader.readRecord());
+        assertArrayEquals(new String[] {"2", "x"}, csvReader.readRecord());
+        assertNull(csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_endsWithInput() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("1,\"open\nfield"));
+        assertArrayEquals(new String[] {"1", "open\nfield"}, csvReader.readRecord());
+        assertNull(csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_inputReadOneCharAtATime_sameRecords() throws IOException {
+        CsvReader csvReader = new CsvReader(new OneCharReader("a,\"b\"\"c\"\r\n\"d\r\ne\",f\r\n"));
+        assertArrayEquals(new String[] {"a", "b\"c"}, csvReader.readRecord());
+        assertArrayEquals(new String[] {"d\ne", "f"}, csvReader.readRecord());
+        assertNull(csvReader.readRecord());
+    }
+
+    /**
+     * A reader that returns at most one char per read, to split the input at every possible position.
+     */
+    private static class OneCharReader extends Reader {
+        private final StringReader reader;
+
+        OneCharReader(String content) {
+            reader = new StringReader(content);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return reader.read(buffer, offset, Math.min(length, 1));
+        }
+
+        @Override
+        public void close() {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.HOON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.IDA;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class DatabaseAddressBookStorageTest {
+
+    private static final long LARGE_THRESHOLD = 1024 * 1024;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new DatabaseAddressBookStorage(testFolder.resolve("data.db"), 0));
+    }
+
+    @Test
+    public void saveAddressBook_editOneEmployee_onlyThatRecordAppended() throws Exception {
+        Path filePath = testFolder.resolve("data.db");
+        AddressBook original = getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD);
+        storage.saveAddressBook(original);
+        long fullSize = Files.size(filePath);
+
+        original.setPerson(BENSON, new EmployeeBuilder(BENSON).withName("Benson Edited").build());
+        storage.saveAddressBook(original);
+
+        long appendedSize = Files.size(filePath) - fullSize;
+        assertTrue(appendedSize > 0 && appendedSize < fullSize / 2);
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_onlyAnniversariesEdited_readBackWithAnniversaries() throws Exception {
+        Path filePath = testFolder.resolve("data.db");
+        AddressBook original = getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD);
+        storage.saveAddressBook(original);
+
+        Employee editedBenson = new EmployeeBuilder(BENSON)
+                .withAnniversary("2020-01-01", "Wedding", "Wedding", "Benson's wedding").build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = readAddressBook(filePath);
+        Employee readBenson = readBack.getEmployeeList().get(readBack.indexOfPerson(BENSON));
+        assertEquals(editedBenson.getAnniversaries(), readBenson.getAnniversaries());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_changesAppended() throws Exception {
+        Path filePath = testFolder.resolve("data.db");
+        new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD).saveAddressBook(getTypicalAddressBook());
+        long fullSize = Files.size(filePath);
+
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removePerson(ALICE);
+        readBack.addPerson(1, HOON);
+        storage.saveAddressBook(storage.snapshotAddressBook(readBack));
+
+        assertTrue(Files.size(filePath) - fullSize < fullSize / 2);
+        assertEquals(readBack, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_reordered_readBackInOrder() throws Exception {
+        Path filePath = testFolder.resolve("data.db");
+        AddressBook original = getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD);
+        storage.saveAddressBook(original);
+
+        List<Employee> reversed = new ArrayList<>(original.getEmployeeList());
+        Collections.reverse(reversed);
+        original.setEmployees(reversed);
+        storage.saveAddressBook(original);
+        original.addPerson(0, HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_manyReplacedRecords_compacted() throws Exception {
+        Path filePath = testFolder.resolve("data.db");
+        AddressBook original = getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(original);
+        long fullSize = Files.size(filePath);
+
+        for (int i = 0; i < 50; i++) {
+            Employee benson = original.getEmployeeList().get(original.indexOfPerson(BENSON));
+            original.setPerson(benson, new EmployeeBuilder(BENSON).withName("Benson " + (char) ('a' + i % 26)).build());
+            storage.saveAddressBook(original);
+        }
+
+        assertTrue(Files.size(filePath) <= 2 * fullSize + 1024);
+        assertEquals(original, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_lastTransactionCutShort_ignoredAndOverwritten() throws Exception {
+        Path filePath = testFolder.resolve("data.db");
+        AddressBook original = getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD);
+        storage.saveAddressBook(original);
+        AddressBook withHoon = new AddressBook(original);
+        withHoon.addPerson(HOON);
+        storage.saveAddressBook(withHoon);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        DatabaseAddressBookStorage restarted = new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD);
+        AddressBook readBack = new AddressBook(restarted.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        readBack.addPerson(IDA);
+        restarted.saveAddressBook(restarted.snapshotAddressBook(readBack));
+        assertEquals(readBack, readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_earlierTransactionCorrupted_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.db");
+        AddressBook original = getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[20] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () ->
+                new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_earlierTransactionLengthCorrupted_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.db");
+        AddressBook original = getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Makes the first transaction claim to run past the end of the file.
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[9] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () ->
+                new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD).readAddressBook());
+        assertArrayEquals(bytes, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () ->
+                new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD).readAddressBook());
+    }
+
+    private static AddressBook readAddressBook(Path filePath) throws Exception {
+        return new AddressBook(new DatabaseAddressBookStorage(filePath, LARGE_THRESHOLD).readAddressBook().get());
+    }
+
+}
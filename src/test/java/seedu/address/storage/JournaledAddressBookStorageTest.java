@@ -0,0 +1,214 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.ALICE;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.BENSON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.HOON;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.IDA;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final long LARGE_THRESHOLD = 1024 * 1024;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournaledAddressBookStorage(testFolder.resolve("data.json"), 0));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("missing.json"),
+                LARGE_THRESHOLD);
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesCheckpointReadableAsJson() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD).saveAddressBook(original);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_laterSaves_appendChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String checkpoint = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Employee editedBenson = new EmployeeBuilder(BENSON).withName("Benson Edited").build();
+        original.setPerson(BENSON, editedBenson);
+        original.addPerson(0, IDA);
+        storage.saveAddressBook(original);
+
+        // add, remove, then a replacement recorded as a remove and an add, then an insert
+        assertEquals(5, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertEquals(checkpoint, Files.readString(filePath));
+        assertEquals(original, new AddressBook(readWithNewStorage(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalNotCreated() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_listReplaced_writesCheckpointInstead() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        original.setEmployees(List.of(IDA));
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertEquals(original, new AddressBook(readWithNewStorage(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoCheckpoint() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // Whether or not the background compaction has finished, the saved data must be complete.
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshot_onlyChangesUpToSnapshotSaved() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(storage.snapshotAddressBook(original));
+
+        original.addPerson(HOON);
+        ReadOnlyAddressBook snapshot = storage.snapshotAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(snapshot);
+        assertEquals(expected, new AddressBook(readWithNewStorage(filePath)));
+
+        storage.saveAddressBook(storage.snapshotAddressBook(original));
+        assertEquals(original, new AddressBook(readWithNewStorage(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotBeforeListReplaced_checkpointWaitsForLaterSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(storage.snapshotAddressBook(original));
+
+        original.addPerson(HOON);
+        ReadOnlyAddressBook snapshot = storage.snapshotAddressBook(original);
+        original.setEmployees(List.of(IDA));
+        storage.saveAddressBook(snapshot);
+        storage.saveAddressBook(storage.snapshotAddressBook(original));
+        assertEquals(original, new AddressBook(readWithNewStorage(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writtenInFull() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original, otherFilePath);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalPath(otherFilePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(JournaledAddressBookStorage.getJournalPath(filePath), "{\"sequence\":99,\"oper",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(readWithNewStorage(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_entryDoesNotMatchCheckpoint_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.writeString(JournaledAddressBookStorage.getJournalPath(filePath),
+                "{\"sequence\":99,\"operation\":\"remove\",\"index\":0,\"employeeId\":\"unknown\"}\n");
+        assertThrows(DataLoadingException.class, () -> readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRestart_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD).saveAddressBook(original);
+
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        AddressBook readBack = new AddressBook(restarted.readAddressBook().get());
+        restarted.saveAddressBook(readBack);
+        readBack.addPerson(HOON);
+        restarted.saveAddressBook(readBack);
+
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalPath(filePath)));
+        assertEquals(readBack, new AddressBook(readWithNewStorage(filePath)));
+    }
+
+    private static AddressBook readWithNewStorage(Path filePath) throws DataLoadingException {
+        return new AddressBook(new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD).readAddressBook().get());
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersonsWithAnniversaries;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src",
+            "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER
+            .resolve("typicalPersonsWithoutAnniversaries.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER
+            .resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER
+            .resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonAddressBookReader.read(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        JsonAddressBookReader reader = JsonAddressBookReader.read(TYPICAL_PERSONS_FILE).get();
+        assertEquals(TypicalPersonsWithAnniversaries.getTypicalAddressBook(), reader.getAddressBook());
+        assertEquals(0, reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_savedCheckpoint_sameAsReadWholeByJackson() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        List<JsonAdaptedPerson> persons = new JsonSerializableAddressBook(
+                TypicalPersonsWithAnniversaries.getTypicalAddressBook()).getPersons();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons, 7), filePath);
+
+        JsonAddressBookReader reader = JsonAddressBookReader.read(filePath).get();
+        JsonSerializableAddressBook readByJackson = JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(readByJackson.toModelType(), reader.getAddressBook());
+        assertEquals(readByJackson.getJournalSequence(), reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_unknownFieldsAndJournalSequence_unknownFieldsIgnored() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Files.writeString(filePath, "{ \"extra\" : { \"nested\" : [ 1, 2 ] }, \"persons\" : [ ],"
+                + " \"journalSequence\" : 42 }");
+
+        JsonAddressBookReader reader = JsonAddressBookReader.read(filePath).get();
+        assertEquals(new AddressBook(), reader.getAddressBook());
+        assertEquals(42, reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        String content = Files.readString(TYPICAL_PERSONS_FILE);
+        Files.writeString(filePath, content.substring(0, content.length() / 2));
+        assertThrows(DataLoadingException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+}
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_pretty_sameAsJsonSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookWriter(false).write(addressBook.getEmployeeList(), filePath);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)), Files.readString(filePath));
+    }
+
+    @Test
+    public void write_compactWithJournalSequence_readableByJackson() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookWriter(true).write(addressBook.getEmployeeList(), 42, filePath);
+
+        assertFalse(Files.readString(filePath).contains("\n"));
+        JsonSerializableAddressBook readBack = JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(addressBook, readBack.toModelType());
+        assertEquals(42, readBack.getJournalSequence());
+    }
+
+    @Test
+    public void write_emptyList_readableByJackson() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JsonAddressBookWriter(true).write(List.of(), filePath);
+
+        assertEquals(new AddressBook(), JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook.class).get().toModelType());
+    }
+
+}
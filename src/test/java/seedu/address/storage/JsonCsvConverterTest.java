@@ -3,20 +3,37 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersonsWithAnniversaries.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Employee;
+import seedu.address.testutil.EmployeeBuilder;
 
 public class JsonCsvConverterTest {
 
@@ -27,9 +44,12 @@ public class JsonCsvConverterTest {
     private static final String TEST_DUPLICATE_INVALID_CSV = "testDuplicateInvalid.csv";
     private JsonCsvConverter converter;
 
+    @TempDir
+    public Path testFolder;
+
     @BeforeEach
     public void setUp() {
-        converter = new JsonCsvConverter(JsonUtil.getObjectMapper(), new QueryValidator());
+        converter = new JsonCsvConverter(new QueryValidator());
     }
 
     @Test
@@ -80,6 +100,139 @@ public class JsonCsvConverterTest {
                 addressBook.getPersons().get(1).getName()));
     }
 
+    @Test
+    public void fromCsv_lineBreakInQuotedField_success() throws IOException, IllegalValueException, CommandException {
+        String csvData = "employeeId,name,phone,email,jobposition,tags,anniversaryDate,anniversaryType,"
+                + "anniversaryTypeDesc,anniversaryName,anniversaryDescription\r\n"
+                + "00000000-0000-0000-0000-000000000011,Alice Pauline,94351253,alice@example.com,Manager,,"
+                + "2020-01-01,Birthday,,Alice's birthday,\"Bring cake\r\nand candles\"\r\n";
+
+        JsonSerializableAddressBook addressBook = converter.fromCsv(new StringReader(csvData),
+                JsonSerializableAddressBook.class);
+
+        List<Employee> employees = addressBook.toModelType().getEmployeeList();
+        assertEquals(1, employees.size());
+        assertEquals("Bring cake\nand candles", employees.get(0).getAnniversaries().get(0).getDescription());
+    }
+
+    @Test
+    public void fromCsv_invalidAnniversaryDate_throwsIoException() {
+        String csvData = "employeeId,name,phone,email,jobposition,tags,anniversaryDate,anniversaryType,"
+                + "anniversaryTypeDesc,anniversaryName,anniversaryDescription\n"
+                + "00000000-0000-0000-0000-000000000011,Alice Pauline,94351253,alice@example.com,Manager,,"
+                + "01/01/2020,Birthday,,Alice's birthday,\n";
+
+        assertThrows(IOException.class, "Unable to parse date: 01/01/2020", () ->
+                converter.fromCsv(csvData, JsonSerializableAddressBook.class));
+    }
+
+    @Test
+    public void fromCsv_rowWithTagsAndAnniversary_mappedToAdaptedPerson() throws IOException, CommandException {
+        String csvData = "employeeId,name,phone,email,jobposition,tags,anniversaryDate,anniversaryType,"
+                + "anniversaryTypeDesc,anniversaryName,anniversaryDescription\n"
+                + " 00000000-0000-0000-0000-000000000011 ,Alice Pauline,94351253,alice@example.com,Manager,"
+                + "friends; colleagues,2020.1.2,Birthday,Day of birth,Alice's birthday,Cake\n";
+
+        JsonAdaptedPerson person = converter.fromCsv(csvData, JsonSerializableAddressBook.class).getPersons().get(0);
+
+        assertEquals("00000000-0000-0000-0000-000000000011", person.getEmployeeId());
+        assertEquals("Manager", person.getJobposition());
+        assertEquals("friends", person.getTags().get(0).getTagName());
+        assertEquals("colleagues", person.getTags().get(1).getTagName());
+        assertEquals(new JsonAdaptedAnniversary(LocalDate.of(2020, 1, 2),
+                new JsonAdaptedAnniversaryType("Birthday", "Day of birth"), "Cake", "Alice's birthday"),
+                person.getAnniversaries().get(0));
+    }
+
+    @Test
+    public void toEmployees_fileInSmallChunks_sameAsReadInOneGo() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (String fileName : List.of(TEST_CSV, TEST_AGGREGATE_CSV, TEST_DUPLICATE_INVALID_CSV)) {
+                Path csvFile = TEST_DATA_FOLDER.resolve(fileName);
+                List<Employee> expected = new ArrayList<>();
+                for (JsonAdaptedPerson person : converter.fromCsv(Files.readString(csvFile),
+                        JsonSerializableAddressBook.class).getPersons()) {
+                    expected.add(person.toModelType());
+                }
+
+                List<Employee> actual = converter.toEmployees(csvFile, pool, 1);
+
+                assertEquals(toCsv(expected), toCsv(actual), fileName);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void toEmployees_invalidRecordsInSeveralChunks_firstInFileReported() throws IOException {
+        Path csvFile = testFolder.resolve("invalidEmails.csv");
+        Files.writeString(csvFile, "employeeId,name,phone,email,jobposition,tags,anniversaryDate,anniversaryType,"
+                + "anniversaryTypeDesc,anniversaryName,anniversaryDescription\n"
+                + "00000000-0000-0000-0000-000000000011,Alice Pauline,94351253,alice@example.com,Manager,,,,,,\n"
+                + "00000000-0000-0000-0000-000000000012,Benson Meier,98765432,not an email,Manager,,,,,,\n"
+                + "00000000-0000-0000-0000-000000000013,Carl Kurz,95352563,heinz@example.com,Manager,,,,,,\n"
+                + "00000000-0000-0000-0000-000000000014,Daniel Meier,9,cornelia@example.com,Manager,,,,,,\n");
+
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () ->
+                converter.toEmployees(csvFile, ForkJoinPool.commonPool(), 1));
+    }
+
+    @Test
+    public void toEmployees_invalidDateInLaterChunk_throwsIoException() throws IOException {
+        Path csvFile = testFolder.resolve("invalidDate.csv");
+        Files.writeString(csvFile, "employeeId,name,phone,email,jobposition,tags,anniversaryDate,anniversaryType,"
+                + "anniversaryTypeDesc,anniversaryName,anniversaryDescription\n"
+                + "00000000-0000-0000-0000-000000000011,Alice Pauline,94351253,alice@example.com,Manager,,"
+                + "2020-01-01,Birthday,,Alice's birthday,\"Bring cake\nand candles\"\n"
+                + "00000000-0000-0000-0000-000000000012,Benson Meier,98765432,johnd@example.com,Manager,,"
+                + "not a date,Birthday,,Benson's birthday,\n");
+
+        assertThrows(IOException.class, "Unable to parse date: not a date", () ->
+                converter.toEmployees(csvFile, ForkJoinPool.commonPool(), 1));
+    }
+
+    @Test
+    public void toEmployees_largeFile_readInPiecesSmallerThanFile() throws Exception {
+        Path csvFile = testFolder.resolve("large.csv");
+        StringBuilder csv = new StringBuilder("employeeId,name,phone,email,jobposition,tags,anniversaryDate,"
+                + "anniversaryType,anniversaryTypeDesc,anniversaryName,anniversaryDescription\n");
+        for (int i = 0; i < 10_000; i++) {
+            csv.append("E").append(i).append(",Alice Pauline,94351253,alice@example.com,Manager,friends,"
+                    + "2020-01-01,Birthday,,Alice's birthday,\"Bring cake\nand candles\"\n");
+        }
+        Files.writeString(csvFile, csv);
+        long fileSize = Files.size(csvFile);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try (RecordingFileChannel csvChannel = new RecordingFileChannel(
+                FileChannel.open(csvFile, StandardOpenOption.READ))) {
+            List<Employee> employees = converter.toEmployees(csvChannel, pool, 4096);
+
+            assertEquals(10_000, employees.size());
+            assertEquals("E9999", employees.get(employees.size() - 1).getEmployeeId().value);
+            // Every byte is read in a piece of at most a small scan buffer or a chunk, never the whole file.
+            assertTrue(csvChannel.largestRead < fileSize / 8, "largest read: " + csvChannel.largestRead);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void toEmployees_emptyFile_throwsCommandException() throws IOException {
+        Path csvFile = testFolder.resolve("empty.csv");
+        Files.writeString(csvFile, "");
+
+        assertThrows(CommandException.class, () -> converter.toEmployees(csvFile, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    public void fromCsv_emptyReader_throwsCommandException() {
+        assertThrows(CommandException.class, () ->
+                converter.fromCsv(new StringReader("\n  \n"), JsonSerializableAddressBook.class));
+    }
+
     @Test
     public void parseCsvLine_handlesEscapedQuotes() throws IOException {
         // Test parsing of CSV line with escaped quotes
@@ -101,6 +254,19 @@ public class JsonCsvConverterTest {
         assertEquals("Pauline, Alice", result[1]);
     }
 
+    @Test
+    public void toCsv_employeesToWriter_sameAsAddressBookCsv() throws IOException {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new EmployeeBuilder().withEmployeeId("00000000-0000-0000-0000-000000000099")
+                .withAnniversary("2020-01-01", "Birthday", "Birthday", "Bring \"cake\", candles").build());
+        StringWriter csvWriter = new StringWriter();
+
+        converter.toCsv(addressBook.getEmployeeList(), csvWriter);
+
+        assertEquals(converter.toCsv(new JsonSerializableAddressBook(addressBook)), csvWriter.toString());
+        assertTrue(csvWriter.toString().contains(",\"Bring \"\"cake\"\", candles\""));
+    }
+
     @Test
     public void toCsv_andFromCsv_maintainsData() throws IOException, IllegalValueException, CommandException {
         // Test roundtrip conversion
@@ -113,4 +279,120 @@ public class JsonCsvConverterTest {
 
         assertEquals(originalBook.getPersons().size(), reconvertedBook.getPersons().size());
     }
+
+    private String toCsv(List<Employee> employees) throws IOException {
+        StringWriter csvWriter = new StringWriter();
+        converter.toCsv(employees, csvWriter);
+        return csvWriter.toString();
+    }
+
+    /**
+     * A {@code FileChannel} that records the largest read made through it, and otherwise behaves as the channel it
+     * wraps.
+     */
+    private static class RecordingFileChannel extends FileChannel {
+        private final FileChannel channel;
+        private int largestRead;
+
+        RecordingFileChannel(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private synchronized void record(ByteBuffer dst) {
+            largestRead = Math.max(largestRead, dst.remaining());
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            record(dst);
+            return channel.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                record(dsts[i]);
+            }
+            return channel.read(dsts, offset, length);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            record(dst);
+            return channel.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return channel.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return channel.write(srcs, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return channel.write(src, position);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return channel.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            channel.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            channel.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            channel.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return channel.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return channel.transferFrom(src, position, count);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            // Mapping would bring in the bytes without a recorded read.
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return channel.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return channel.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            channel.close();
+        }
+    }
 }
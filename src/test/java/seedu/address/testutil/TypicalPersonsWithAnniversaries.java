@@ -130,4 +130,15 @@ public class TypicalPersonsWithAnniversaries {
     public static List<Employee> getTypicalPersons() {
         return new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE));
     }
+
+    /**
+     * Returns an employee with {@code employeeId} and {@code name} whose birthday and work anniversary fall on
+     * {@code birthday} and {@code workAnniversary}, with default values for the other fields.
+     */
+    public static Employee employeeWithAnniversaries(String employeeId, String name, LocalDate birthday,
+            LocalDate workAnniversary) {
+        return new EmployeeBuilder().withEmployeeId(employeeId).withName(name)
+                .withBirthdayAndWorkAnniversary(birthday, workAnniversary)
+                .build();
+    }
 }